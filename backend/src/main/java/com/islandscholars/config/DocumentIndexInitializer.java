@@ -0,0 +1,27 @@
+package com.islandscholars.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// Document types are matched case-insensitively (see AutomationService.MISSING_DOCUMENTS_SQL), which a
+// plain (student_id, type) index cannot serve. The expression index, which ddl-auto cannot express,
+// replaces the plain one that earlier versions declared on the entity.
+@Component
+public class DocumentIndexInitializer implements CommandLineRunner {
+    
+    private static final String DROP_PLAIN_INDEX = "DROP INDEX IF EXISTS idx_documents_student_type";
+    
+    private static final String CREATE_TYPE_INDEX =
+        "CREATE INDEX IF NOT EXISTS idx_documents_student_lower_type ON documents (student_id, LOWER(type))";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public void run(String... args) throws Exception {
+        jdbcTemplate.execute(DROP_PLAIN_INDEX);
+        jdbcTemplate.execute(CREATE_TYPE_INDEX);
+    }
+}
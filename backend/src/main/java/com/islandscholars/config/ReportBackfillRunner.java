@@ -0,0 +1,23 @@
+package com.islandscholars.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import com.islandscholars.service.ReportingService;
+
+// Rebuilds the reporting rollups from existing data when started with --backfill-reports
+@Component
+public class ReportBackfillRunner implements ApplicationRunner {
+    
+    @Autowired
+    private ReportingService reportingService;
+    
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (args.containsOption("backfill-reports")) {
+            reportingService.backfill();
+        }
+    }
+}
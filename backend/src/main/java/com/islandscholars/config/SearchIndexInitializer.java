@@ -0,0 +1,31 @@
+package com.islandscholars.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// Adds the full-text search column and its GIN index, which ddl-auto cannot express.
+// The column is generated by PostgreSQL, so every insert and update keeps it in sync.
+@Component
+public class SearchIndexInitializer implements CommandLineRunner {
+    
+    private static final String ADD_SEARCH_VECTOR =
+        "ALTER TABLE internships ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (" +
+        "setweight(to_tsvector('english', coalesce(title, '')), 'A') || " +
+        "setweight(to_tsvector('english', coalesce(description, '')), 'B') || " +
+        "setweight(to_tsvector('english', coalesce(requirements, '') || ' ' || coalesce(responsibilities, '')), 'C')" +
+        ") STORED";
+    
+    private static final String CREATE_SEARCH_INDEX =
+        "CREATE INDEX IF NOT EXISTS idx_internships_search ON internships USING GIN (search_vector)";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public void run(String... args) throws Exception {
+        jdbcTemplate.execute(ADD_SEARCH_VECTOR);
+        jdbcTemplate.execute(CREATE_SEARCH_INDEX);
+    }
+}
@@ -29,6 +29,7 @@ public class SecurityConfig {
                 .requestMatchers("/api/internships/**").permitAll()
                 .requestMatchers("/api/organizations/**").permitAll()
                 .requestMatchers("/api/universities/**").permitAll()
+                .requestMatchers("/api/autocomplete/**").permitAll()
                 .requestMatchers("/api/admin/**").permitAll()
                 .anyRequest().permitAll()
             );
@@ -41,6 +42,7 @@ public class SecurityConfig {
         configuration.setAllowedOriginPatterns(Arrays.asList("*"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        configuration.setExposedHeaders(Arrays.asList("X-Next-Cursor", "X-Total-Count"));
         configuration.setAllowCredentials(true);
         
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
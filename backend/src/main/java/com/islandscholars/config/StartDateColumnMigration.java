@@ -0,0 +1,66 @@
+package com.islandscholars.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+
+// internships.start_date used to be a varchar holding yyyy-MM-dd. ddl-auto never changes a column's
+// type, so existing databases are converted here once; values that are not ISO dates become NULL.
+// Runs after Hibernate's schema update and before the scheduled jobs start. Instances starting together
+// serialize on a transaction-scoped advisory lock and re-check the type under it, so only one converts.
+@Component
+@DependsOn("entityManagerFactory")
+public class StartDateColumnMigration {
+    
+    private static final String COLUMN_TYPE =
+        "SELECT data_type FROM information_schema.columns " +
+        "WHERE table_schema = current_schema() AND table_name = 'internships' AND column_name = 'start_date'";
+    
+    // Arbitrary constant shared by every instance; released when the transaction ends
+    private static final long LOCK_KEY = 0x5354415254L;
+    
+    private static final String LOCK = "SELECT pg_advisory_xact_lock(?)";
+    
+    private static final String CONVERT_COLUMN =
+        "ALTER TABLE internships ALTER COLUMN start_date TYPE date USING " +
+        "CASE WHEN start_date ~ '^\\d{4}-\\d{2}-\\d{2}$' THEN start_date::date END";
+    
+    private static final Logger log = LoggerFactory.getLogger(StartDateColumnMigration.class);
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @PostConstruct
+    public void migrate() {
+        if (isDate(currentType())) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.query(LOCK, rs -> {}, LOCK_KEY);
+            String type = currentType();
+            if (!isDate(type)) {
+                jdbcTemplate.execute(CONVERT_COLUMN);
+                log.info("Converted internships.start_date from {} to date", type);
+            }
+        });
+    }
+    
+    private String currentType() {
+        List<String> types = jdbcTemplate.queryForList(COLUMN_TYPE, String.class);
+        return types.isEmpty() ? null : types.get(0);
+    }
+    
+    // A missing column has nothing to convert
+    private static boolean isDate(String type) {
+        return type == null || "date".equals(type);
+    }
+}
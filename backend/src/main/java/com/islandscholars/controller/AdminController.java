@@ -1,84 +1,154 @@
 package com.islandscholars.controller;
 
-import com.islandscholars.repository.*;
+import com.islandscholars.entity.ActivityEvent;
+import com.islandscholars.service.ActivityLogService;
+import com.islandscholars.service.ClusterJobScheduler;
+import com.islandscholars.service.InternshipSuggestionService;
+import com.islandscholars.service.JobLockService;
+import com.islandscholars.service.ReportingService;
+import com.islandscholars.service.SuggestionPrecomputeService;
+import com.islandscholars.service.SystemStatsService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicReference;
 
 @RestController
 @RequestMapping("/api/admin")
 @CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000"})
 public class AdminController {
     
+    private static final int MAX_ACTIVITY_PAGE_SIZE = 100;
+    
     @Autowired
-    private UserRepository userRepository;
+    private SystemStatsService systemStatsService;
     
     @Autowired
-    private StudentRepository studentRepository;
+    private ActivityLogService activityLogService;
     
     @Autowired
-    private OrganizationRepository organizationRepository;
+    private ReportingService reportingService;
     
     @Autowired
-    private UniversityRepository universityRepository;
+    private InternshipSuggestionService suggestionService;
     
     @Autowired
-    private InternshipRepository internshipRepository;
+    private SuggestionPrecomputeService suggestionPrecomputeService;
     
     @Autowired
-    private ApplicationRepository applicationRepository;
+    private JobLockService jobLockService;
     
     @GetMapping("/stats")
     public ResponseEntity<Map<String, Object>> getSystemStats() {
-        Map<String, Object> stats = new HashMap<>();
-        
-        stats.put("totalStudents", studentRepository.count());
-        stats.put("totalOrganizations", organizationRepository.count());
-        stats.put("totalUniversities", universityRepository.count());
-        stats.put("totalInternships", internshipRepository.count());
-        stats.put("totalApplications", applicationRepository.count());
-        stats.put("activeInternships", internshipRepository.findByStatus("active").size());
-        stats.put("pendingApplications", applicationRepository.findByStatus("pending").size());
-        stats.put("completedInternships", applicationRepository.findByStatus("accepted").size());
-        
-        return ResponseEntity.ok(stats);
+        return ResponseEntity.ok(systemStatsService.getSystemStats());
+    }
+    
+    @GetMapping("/suggestion-cache")
+    public ResponseEntity<Map<String, Object>> getSuggestionCacheStats() {
+        return ResponseEntity.ok(suggestionService.getCacheStats());
+    }
+    
+    @GetMapping("/suggestions/precompute")
+    public ResponseEntity<Map<String, Object>> getLastSuggestionPrecompute() {
+        return ResponseEntity.ok(suggestionPrecomputeService.getLastRun());
+    }
+    
+    // Takes the same lease as the nightly job, so a manual run never overlaps a run on any node.
+    // The lease is released as soon as the run ends so the next scheduled run is not skipped.
+    @PostMapping("/suggestions/precompute")
+    public ResponseEntity<Map<String, Object>> precomputeSuggestions() {
+        AtomicReference<Map<String, Object>> run = new AtomicReference<>();
+        boolean ran = jobLockService.runExclusively(ClusterJobScheduler.SUGGESTION_PRECOMPUTE, 0,
+            () -> run.set(suggestionPrecomputeService.precomputeAll()));
+        if (!ran) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("error", "A suggestion precompute is already running"));
+        }
+        return ResponseEntity.ok(run.get());
+    }
+    
+    // Lease holder and last run of every cluster-wide scheduled job, plus the node serving this request
+    @GetMapping("/jobs")
+    public ResponseEntity<Map<String, Object>> getScheduledJobs() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("nodeId", jobLockService.getNodeId());
+        response.put("jobs", jobLockService.getStatuses());
+        return ResponseEntity.ok(response);
     }
     
     @GetMapping("/recent-activity")
-    public ResponseEntity<List<Map<String, Object>>> getRecentActivity() {
+    public ResponseEntity<List<Map<String, Object>>> getRecentActivity(@RequestParam(defaultValue = "10") int limit) {
         List<Map<String, Object>> activities = new ArrayList<>();
+        for (ActivityEvent event : activityLogService.getRecentEvents(Math.max(1, limit))) {
+            activities.add(toActivity(event));
+        }
+        return ResponseEntity.ok(activities);
+    }
+    
+    @GetMapping("/activity")
+    public ResponseEntity<Map<String, Object>> getActivityHistory(
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "20") int limit) {
+        List<ActivityEvent> events = activityLogService.getHistory(before, Math.min(Math.max(1, limit), MAX_ACTIVITY_PAGE_SIZE));
         
-        Map<String, Object> activity1 = new HashMap<>();
-        activity1.put("description", "New student registration");
-        activity1.put("timestamp", "2 hours ago");
-        activities.add(activity1);
-        
-        Map<String, Object> activity2 = new HashMap<>();
-        activity2.put("description", "New internship posted");
-        activity2.put("timestamp", "4 hours ago");
-        activities.add(activity2);
-        
-        Map<String, Object> activity3 = new HashMap<>();
-        activity3.put("description", "Application submitted");
-        activity3.put("timestamp", "6 hours ago");
-        activities.add(activity3);
+        List<Map<String, Object>> activities = new ArrayList<>();
+        for (ActivityEvent event : events) {
+            activities.add(toActivity(event));
+        }
         
-        return ResponseEntity.ok(activities);
+        Map<String, Object> page = new HashMap<>();
+        page.put("items", activities);
+        page.put("nextCursor", events.isEmpty() ? null : events.get(events.size() - 1).getId());
+        return ResponseEntity.ok(page);
     }
     
     @GetMapping("/reports")
-    public ResponseEntity<Map<String, Object>> generateReports() {
-        Map<String, Object> reports = new HashMap<>();
-        
-        reports.put("monthlyRegistrations", 45);
-        reports.put("monthlyApplications", 120);
-        reports.put("successRate", 78.5);
-        reports.put("topUniversities", List.of("UDSM", "SUZA", "SUA"));
+    public ResponseEntity<Map<String, Object>> generateReports(
+            @RequestParam(required = false) String month,
+            @RequestParam(defaultValue = "3") int top) {
+        YearMonth reportMonth;
+        try {
+            reportMonth = month != null ? YearMonth.parse(month) : YearMonth.now();
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "month must be formatted as yyyy-MM"));
+        }
         
-        return ResponseEntity.ok(reports);
+        return ResponseEntity.ok(reportingService.getMonthlyReport(reportMonth, Math.min(Math.max(1, top), 50)));
+    }
+    
+    @PostMapping("/reports/backfill")
+    public ResponseEntity<Map<String, Integer>> backfillReports() {
+        return ResponseEntity.ok(reportingService.backfill());
+    }
+    
+    private Map<String, Object> toActivity(ActivityEvent event) {
+        Map<String, Object> activity = new HashMap<>();
+        activity.put("id", event.getId());
+        activity.put("type", event.getType());
+        activity.put("description", event.getDescription());
+        activity.put("createdAt", event.getCreatedAt());
+        activity.put("timestamp", describeAge(event.getCreatedAt()));
+        return activity;
+    }
+    
+    private String describeAge(LocalDateTime createdAt) {
+        Duration age = Duration.between(createdAt, LocalDateTime.now());
+        if (age.toMinutes() < 1) {
+            return "just now";
+        } else if (age.toHours() < 1) {
+            return age.toMinutes() + (age.toMinutes() == 1 ? " minute ago" : " minutes ago");
+        } else if (age.toDays() < 1) {
+            return age.toHours() + (age.toHours() == 1 ? " hour ago" : " hours ago");
+        }
+        return age.toDays() + (age.toDays() == 1 ? " day ago" : " days ago");
     }
-}
\ No newline at end of file
+}
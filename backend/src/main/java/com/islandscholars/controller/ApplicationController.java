@@ -1,95 +1,145 @@
 package com.islandscholars.controller;
 
+import com.islandscholars.dto.ApplicationView;
+import com.islandscholars.dto.CursorPage;
 import com.islandscholars.entity.Application;
+import com.islandscholars.service.ApplicationExportService;
 import com.islandscholars.service.ApplicationService;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/applications")
-@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000"})
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000"}, exposedHeaders = "X-Next-Cursor")
 public class ApplicationController {
     
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    
     @Autowired
     private ApplicationService applicationService;
     
+    @Autowired
+    private ApplicationExportService applicationExportService;
+    
+    @Autowired
+    private SparseFieldset sparseFieldset;
+    
     @GetMapping
-    public ResponseEntity<List<Application>> getAllApplications() {
-        List<Application> applications = applicationService.getAllApplications();
-        return ResponseEntity.ok(applications);
+    public ResponseEntity<?> getAllApplications(@RequestParam(required = false) String cursor,
+                                                @RequestParam(required = false) Integer limit,
+                                                @RequestParam(required = false) String fields) {
+        return respondWithPage(() -> applicationService.getAllApplications(cursor, limit), fields);
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<Application> getApplicationById(@PathVariable Long id) {
+    public ResponseEntity<?> getApplicationById(@PathVariable Long id, @RequestParam(required = false) String fields) {
         return applicationService.getApplicationById(id)
-            .map(ResponseEntity::ok)
+            .<ResponseEntity<?>>map(application -> ResponseEntity.ok(sparseFieldset.apply(ApplicationView.from(application), fields)))
             .orElse(ResponseEntity.notFound().build());
     }
     
     @GetMapping("/student/{studentId}")
-    public ResponseEntity<List<Application>> getApplicationsByStudent(@PathVariable Long studentId) {
-        List<Application> applications = applicationService.getApplicationsByStudent(studentId);
-        return ResponseEntity.ok(applications);
+    public ResponseEntity<?> getApplicationsByStudent(@PathVariable Long studentId,
+                                 @RequestParam(required = false) String cursor,
+                                 @RequestParam(required = false) Integer limit,
+                                 @RequestParam(required = false) String fields) {
+        return respondWithPage(() -> applicationService.getApplicationsByStudent(studentId, cursor, limit), fields);
     }
     
     @GetMapping("/internship/{internshipId}")
-    public ResponseEntity<List<Application>> getApplicationsByInternship(@PathVariable Long internshipId) {
-        List<Application> applications = applicationService.getApplicationsByInternship(internshipId);
-        return ResponseEntity.ok(applications);
+    public ResponseEntity<?> getApplicationsByInternship(@PathVariable Long internshipId,
+                                 @RequestParam(required = false) String cursor,
+                                 @RequestParam(required = false) Integer limit,
+                                 @RequestParam(required = false) String fields) {
+        return respondWithPage(() -> applicationService.getApplicationsByInternship(internshipId, cursor, limit), fields);
     }
     
     @GetMapping("/organization/{organizationId}")
-    public ResponseEntity<List<Application>> getApplicationsByOrganization(@PathVariable Long organizationId) {
-        List<Application> applications = applicationService.getApplicationsByOrganization(organizationId);
-        return ResponseEntity.ok(applications);
+    public ResponseEntity<?> getApplicationsByOrganization(@PathVariable Long organizationId,
+                                                           @RequestParam(required = false) String fields) {
+        List<ApplicationView> applications = applicationService.getApplicationsByOrganization(organizationId);
+        return ResponseEntity.ok(sparseFieldset.apply(applications, fields));
     }
     
     @GetMapping("/organization/{organizationId}/direct")
-    public ResponseEntity<List<Application>> getDirectApplicationsByOrganization(@PathVariable Long organizationId) {
-        List<Application> applications = applicationService.getDirectApplicationsByOrganization(organizationId);
-        return ResponseEntity.ok(applications);
+    public ResponseEntity<?> getDirectApplicationsByOrganization(@PathVariable Long organizationId,
+                                                                 @RequestParam(required = false) String fields) {
+        List<ApplicationView> applications = applicationService.getDirectApplicationsByOrganization(organizationId);
+        return ResponseEntity.ok(sparseFieldset.apply(applications, fields));
     }
     
     @GetMapping("/organization/{organizationId}/all")
-    public ResponseEntity<List<Application>> getAllApplicationsByOrganization(@PathVariable Long organizationId) {
-        List<Application> applications = applicationService.getAllApplicationsByOrganization(organizationId);
-        return ResponseEntity.ok(applications);
+    public ResponseEntity<?> getAllApplicationsByOrganization(@PathVariable Long organizationId,
+                                 @RequestParam(required = false) String cursor,
+                                 @RequestParam(required = false) Integer limit,
+                                 @RequestParam(required = false) String fields) {
+        return respondWithPage(() -> applicationService.getAllApplicationsByOrganization(organizationId, cursor, limit), fields);
     }
     
     @GetMapping("/university/{universityId}")
-    public ResponseEntity<List<Application>> getApplicationsByUniversity(@PathVariable Long universityId) {
-        List<Application> applications = applicationService.getApplicationsByUniversity(universityId);
-        return ResponseEntity.ok(applications);
+    public ResponseEntity<?> getApplicationsByUniversity(@PathVariable Long universityId,
+                                 @RequestParam(required = false) String cursor,
+                                 @RequestParam(required = false) Integer limit,
+                                 @RequestParam(required = false) String fields) {
+        return respondWithPage(() -> applicationService.getApplicationsByUniversity(universityId, cursor, limit), fields);
+    }
+    
+    @GetMapping("/organization/{organizationId}/export")
+    public void exportApplicationsByOrganization(@PathVariable Long organizationId,
+                                                 @RequestParam(defaultValue = "csv") String format,
+                                                 HttpServletResponse response) throws IOException {
+        Writer writer = openExport(response, format, "organization-" + organizationId + "-applications");
+        if (writer != null) {
+            applicationExportService.exportOrganizationApplications(organizationId, format, writer);
+        }
+    }
+    
+    @GetMapping("/university/{universityId}/export")
+    public void exportApplicationsByUniversity(@PathVariable Long universityId,
+                                               @RequestParam(defaultValue = "csv") String format,
+                                               HttpServletResponse response) throws IOException {
+        Writer writer = openExport(response, format, "university-" + universityId + "-applications");
+        if (writer != null) {
+            applicationExportService.exportUniversityApplications(universityId, format, writer);
+        }
     }
     
     @PostMapping
     public ResponseEntity<?> createApplication(@RequestBody Map<String, Object> applicationData) {
         try {
             Application createdApplication = applicationService.createApplicationFromMap(applicationData);
-            return ResponseEntity.ok(createdApplication);
+            return ResponseEntity.ok(ApplicationView.from(createdApplication));
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
     
     @PutMapping("/{id}/accept")
-    public ResponseEntity<Application> acceptApplication(@PathVariable Long id) {
+    public ResponseEntity<ApplicationView> acceptApplication(@PathVariable Long id) {
         try {
             Application application = applicationService.acceptApplication(id);
-            return ResponseEntity.ok(application);
+            return ResponseEntity.ok(ApplicationView.from(application));
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
     }
     
     @PutMapping("/{id}/reject")
-    public ResponseEntity<Application> rejectApplication(@PathVariable Long id) {
+    public ResponseEntity<ApplicationView> rejectApplication(@PathVariable Long id) {
         try {
             Application application = applicationService.rejectApplication(id);
-            return ResponseEntity.ok(application);
+            return ResponseEntity.ok(ApplicationView.from(application));
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -100,4 +150,33 @@ public class ApplicationController {
         applicationService.deleteApplication(id);
         return ResponseEntity.ok().build();
     }
+    
+    // Pages are returned as a plain list so existing clients keep working; the cursor for the next page
+    // travels in the X-Next-Cursor header
+    private ResponseEntity<?> respondWithPage(Supplier<CursorPage<ApplicationView>> query, String fields) {
+        CursorPage<ApplicationView> page;
+        try {
+            page = query.get();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+        
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(sparseFieldset.apply(page.getItems(), fields));
+    }
+    
+    private Writer openExport(HttpServletResponse response, String format, String fileName) throws IOException {
+        if (!ApplicationExportService.FORMATS.contains(format)) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Unsupported export format: " + format);
+            return null;
+        }
+        
+        response.setContentType("csv".equals(format) ? "text/csv" : "application/x-ndjson");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "." + format + "\"");
+        return new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.islandscholars.controller;
+
+import com.islandscholars.dto.NamedRef;
+import com.islandscholars.service.NameIndexService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/autocomplete")
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000"})
+public class AutocompleteController {
+    
+    private static final int MAX_LIMIT = 50;
+    
+    @Autowired
+    private NameIndexService nameIndexService;
+    
+    @GetMapping("/universities")
+    public ResponseEntity<List<NamedRef>> suggestUniversities(@RequestParam(defaultValue = "") String q,
+                                                              @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(nameIndexService.suggestUniversities(q, clamp(limit)));
+    }
+    
+    @GetMapping("/organizations")
+    public ResponseEntity<List<NamedRef>> suggestOrganizations(@RequestParam(defaultValue = "") String q,
+                                                               @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(nameIndexService.suggestOrganizations(q, clamp(limit)));
+    }
+    
+    private int clamp(int limit) {
+        return Math.min(Math.max(1, limit), MAX_LIMIT);
+    }
+}
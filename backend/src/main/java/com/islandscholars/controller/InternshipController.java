@@ -1,8 +1,18 @@
 package com.islandscholars.controller;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -12,26 +22,137 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.islandscholars.dto.CreateInternshipRequest;
 import com.islandscholars.dto.InternshipDTO;
+import com.islandscholars.dto.InternshipSearchHit;
 import com.islandscholars.entity.Internship;
+import com.islandscholars.service.CollectionVersionService;
 import com.islandscholars.service.InternshipService;
 
 @RestController
 @RequestMapping("/api/internships")
-@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000"})
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000"}, exposedHeaders = "X-Total-Count")
 public class InternshipController {
 
+    private static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Set<String> SORTABLE_PROPERTIES =
+            Set.of("title", "location", "field", "type", "startDate", "spotsAvailable", "createdAt");
+
     @Autowired
     private InternshipService internshipService;
 
+    @Autowired
+    private CollectionVersionService collectionVersions;
+
     @GetMapping
-    public ResponseEntity<List<InternshipDTO>> getAllInternships() {
+    public ResponseEntity<?> getAllInternships(
+            @RequestParam(required = false) String field,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String startFrom,
+            @RequestParam(required = false) String startTo,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String sort,
+            WebRequest request) {
         System.out.println("GET /api/internships called.");
-        List<InternshipDTO> internships = internshipService.getAllInternships();
-        return ResponseEntity.ok(internships);
+        // The ETag only depends on the catalog version; caches key it by the full URL, query included
+        if (request.checkNotModified(collectionVersions.etag(CollectionVersionService.INTERNSHIPS))) {
+            return null;
+        }
+
+        Sort order;
+        LocalDate from;
+        LocalDate to;
+        try {
+            order = parseSort(sort);
+            from = parseDate(startFrom);
+            to = parseDate(startTo);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+
+        // Without page/size the whole (filtered) catalog is returned, as before
+        boolean paged = page != null || size != null;
+        Pageable pageable = paged
+                ? PageRequest.of(page != null ? Math.max(0, page) : 0, Math.min(Math.max(1, size != null ? size : DEFAULT_PAGE_SIZE), MAX_PAGE_SIZE), order)
+                : Pageable.unpaged(order);
+
+        Page<InternshipDTO> internships = internshipService.getCatalog(field, location, type, status, from, to, pageable);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .header(TOTAL_COUNT_HEADER, String.valueOf(internships.getTotalElements()))
+                .body(internships.getContent());
+    }
+
+    @GetMapping("/browse")
+    public ResponseEntity<?> browseInternships(
+            @RequestParam(required = false) String field,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String startFrom,
+            @RequestParam(required = false) String startTo,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(required = false) String sort,
+            WebRequest request) {
+        System.out.println("GET /api/internships/browse called.");
+
+        Sort order;
+        LocalDate from;
+        LocalDate to;
+        try {
+            order = parseSort(sort);
+            from = parseDate(startFrom);
+            to = parseDate(startTo);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+        if (request.checkNotModified(collectionVersions.etag(CollectionVersionService.INTERNSHIPS))) {
+            return null;
+        }
+
+        // One page of matches plus the facet counts for every dimension
+        Pageable pageable = PageRequest.of(Math.max(0, page), Math.min(Math.max(1, size), MAX_PAGE_SIZE), order);
+        Page<InternshipDTO> internships = internshipService.getCatalog(field, location, type, status, from, to, pageable);
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("items", internships.getContent());
+        response.put("total", internships.getTotalElements());
+        response.put("facets", internshipService.getFacets(field, location, type, status, from, to));
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<?> searchInternships(
+            @RequestParam String q,
+            @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size,
+            WebRequest request) {
+        System.out.println("GET /api/internships/search called.");
+        if (q.isBlank()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Search query must not be empty"));
+        }
+        if (request.checkNotModified(collectionVersions.etag(CollectionVersionService.INTERNSHIPS))) {
+            return null;
+        }
+
+        // Results come back best match first; sorting is fixed by rank so no sort parameter
+        Pageable pageable = PageRequest.of(Math.max(0, page), Math.min(Math.max(1, size), MAX_PAGE_SIZE));
+        Page<InternshipSearchHit> hits = internshipService.search(q, status, pageable);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .header(TOTAL_COUNT_HEADER, String.valueOf(hits.getTotalElements()))
+                .body(hits.getContent());
     }
 
     @GetMapping("/{id}")
@@ -98,4 +219,28 @@ public class InternshipController {
             return ResponseEntity.notFound().build();
         }
     }
+
+    private LocalDate parseDate(String date) {
+        if (date == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Dates must be formatted as yyyy-MM-dd: " + date);
+        }
+    }
+
+    private Sort parseSort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return InternshipService.DEFAULT_SORT;
+        }
+
+        String[] parts = sort.split(",");
+        if (!SORTABLE_PROPERTIES.contains(parts[0])) {
+            throw new IllegalArgumentException("Cannot sort internships by " + parts[0]);
+        }
+        Sort.Direction direction = parts.length > 1 ? Sort.Direction.fromString(parts[1]) : Sort.Direction.ASC;
+        return Sort.by(direction, parts[0]).and(Sort.by(Sort.Direction.DESC, "id"));
+    }
 }
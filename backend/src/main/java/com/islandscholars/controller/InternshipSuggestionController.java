@@ -1,9 +1,7 @@
 package com.islandscholars.controller;
 
-import com.islandscholars.entity.Internship;
-import com.islandscholars.entity.Student;
+import com.islandscholars.dto.SuggestedInternship;
 import com.islandscholars.service.InternshipSuggestionService;
-import com.islandscholars.repository.StudentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -17,17 +15,11 @@ public class InternshipSuggestionController {
     @Autowired
     private InternshipSuggestionService suggestionService;
     
-    @Autowired
-    private StudentRepository studentRepository;
-    
     @GetMapping("/internships/student/{studentId}")
-    public ResponseEntity<List<Internship>> getSuggestedInternships(@PathVariable Long studentId) {
-        Student student = studentRepository.findByUserId(studentId).orElse(null);
-        if (student == null) {
-            return ResponseEntity.notFound().build();
-        }
-        
-        List<Internship> suggestions = suggestionService.getSuggestedInternships(student);
-        return ResponseEntity.ok(suggestions);
+    public ResponseEntity<List<SuggestedInternship>> getSuggestedInternships(@PathVariable Long studentId) {
+        // The path variable is the student's user id, as sent by the dashboard
+        return suggestionService.getSuggestionsForUser(studentId)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
     }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -15,9 +16,12 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.islandscholars.dto.OrganizationSummaryDTO;
 import com.islandscholars.entity.Organization;
 import com.islandscholars.repository.OrganizationRepository;
+import com.islandscholars.service.CollectionVersionService;
 
 @RestController
 @RequestMapping("/api/organizations")
@@ -29,11 +33,18 @@ public class OrganizationController {
     @Autowired
     private OrganizationRepository organizationRepository;
     
+    @Autowired
+    private CollectionVersionService collectionVersions;
+    
     @GetMapping
-    public ResponseEntity<List<Organization>> getAllOrganizations() {
-        List<Organization> organizations = organizationRepository.findAll();
+    public ResponseEntity<List<OrganizationSummaryDTO>> getAllOrganizations(WebRequest request) {
+        // Answered with 304 straight from the change counter, before any query runs
+        if (request.checkNotModified(collectionVersions.etag(CollectionVersionService.ORGANIZATIONS))) {
+            return null;
+        }
+        List<OrganizationSummaryDTO> organizations = organizationRepository.findAllSummaries();
         log.info("Found {} organizations in the database.", organizations.size());
-        return ResponseEntity.ok(organizations);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(organizations);
     }
 
     @GetMapping("/count")
@@ -54,14 +65,18 @@ public class OrganizationController {
     }
     
     @GetMapping("/industry/{industry}")
-    public ResponseEntity<List<Organization>> getOrganizationsByIndustry(@PathVariable String industry) {
-        List<Organization> organizations = organizationRepository.findByIndustry(industry);
-        return ResponseEntity.ok(organizations);
+    public ResponseEntity<List<OrganizationSummaryDTO>> getOrganizationsByIndustry(@PathVariable String industry, WebRequest request) {
+        if (request.checkNotModified(collectionVersions.etag(CollectionVersionService.ORGANIZATIONS))) {
+            return null;
+        }
+        List<OrganizationSummaryDTO> organizations = organizationRepository.findSummariesByIndustry(industry);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(organizations);
     }
     
     @PostMapping
     public ResponseEntity<Organization> createOrganization(@RequestBody Organization organization) {
         Organization savedOrganization = organizationRepository.save(organization);
+        collectionVersions.bump(CollectionVersionService.ORGANIZATIONS);
         return ResponseEntity.ok(savedOrganization);
     }
     
@@ -79,7 +94,10 @@ public class OrganizationController {
                 organization.setContactPhone(organizationDetails.getContactPhone());
                 organization.setFoundedYear(organizationDetails.getFoundedYear());
                 organization.setRegistrationNumber(organizationDetails.getRegistrationNumber());
-                return ResponseEntity.ok(organizationRepository.save(organization));
+                Organization savedOrganization = organizationRepository.save(organization);
+                // The internship catalog shows the organization name
+                collectionVersions.bump(CollectionVersionService.ORGANIZATIONS, CollectionVersionService.INTERNSHIPS);
+                return ResponseEntity.ok(savedOrganization);
             })
             .orElse(ResponseEntity.notFound().build());
     }
@@ -87,6 +105,7 @@ public class OrganizationController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteOrganization(@PathVariable Long id) {
         organizationRepository.deleteById(id);
+        collectionVersions.bump(CollectionVersionService.ORGANIZATIONS, CollectionVersionService.INTERNSHIPS);
         return ResponseEntity.ok().build();
     }
 }
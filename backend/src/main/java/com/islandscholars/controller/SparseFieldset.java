@@ -0,0 +1,65 @@
+package com.islandscholars.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Trims response bodies to the comma-separated dotted paths given in ?fields=, e.g.
+// fields=id,status,student.user.firstName. Naming a parent keeps the whole subtree.
+@Component
+public class SparseFieldset {
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    public Object apply(Object body, String fields) {
+        if (fields == null || fields.isBlank()) {
+            return body;
+        }
+        
+        PathNode paths = new PathNode();
+        for (String field : fields.split(",")) {
+            PathNode level = paths;
+            for (String segment : field.trim().split("\\.")) {
+                if (!segment.isEmpty()) {
+                    level = level.children.computeIfAbsent(segment, key -> new PathNode());
+                }
+            }
+        }
+        
+        JsonNode tree = objectMapper.valueToTree(body);
+        filter(tree, paths);
+        return tree;
+    }
+    
+    private void filter(JsonNode node, PathNode paths) {
+        if (paths.children.isEmpty()) {
+            return;
+        }
+        if (node instanceof ArrayNode) {
+            node.forEach(element -> filter(element, paths));
+        } else if (node instanceof ObjectNode) {
+            Iterator<Map.Entry<String, JsonNode>> entries = node.fields();
+            while (entries.hasNext()) {
+                Map.Entry<String, JsonNode> entry = entries.next();
+                PathNode child = paths.children.get(entry.getKey());
+                if (child == null) {
+                    entries.remove();
+                } else {
+                    filter(entry.getValue(), child);
+                }
+            }
+        }
+    }
+    
+    // One segment of the requested paths; a node without children keeps its whole subtree
+    private static final class PathNode {
+        private final Map<String, PathNode> children = new LinkedHashMap<>();
+    }
+}
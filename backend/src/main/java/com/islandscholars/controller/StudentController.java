@@ -1,7 +1,9 @@
 package com.islandscholars.controller;
 
+import com.islandscholars.dto.StudentView;
 import com.islandscholars.entity.Student;
 import com.islandscholars.repository.StudentRepository;
+import com.islandscholars.service.InternshipSuggestionService;
 import com.islandscholars.service.StudentService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -20,33 +22,41 @@ public class StudentController {
     @Autowired
     private StudentService studentService;
     
+    @Autowired
+    private SparseFieldset sparseFieldset;
+    
+    @Autowired
+    private InternshipSuggestionService suggestionService;
+    
     @GetMapping
-    public ResponseEntity<List<Student>> getAllStudents() {
-        List<Student> students = studentRepository.findAll();
-        return ResponseEntity.ok(students);
+    public ResponseEntity<?> getAllStudents(@RequestParam(required = false) String fields) {
+        List<StudentView> students = studentService.getAllStudents();
+        return ResponseEntity.ok(sparseFieldset.apply(students, fields));
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<Student> getStudentById(@PathVariable Long id) {
+    public ResponseEntity<?> getStudentById(@PathVariable Long id, @RequestParam(required = false) String fields) {
         return studentRepository.findById(id)
-            .map(ResponseEntity::ok)
+            .<ResponseEntity<?>>map(student -> ResponseEntity.ok(sparseFieldset.apply(StudentView.from(student), fields)))
             .orElse(ResponseEntity.notFound().build());
     }
     
     @GetMapping("/university/{universityId}")
-    public ResponseEntity<List<Student>> getStudentsByUniversity(@PathVariable Long universityId) {
-        List<Student> students = studentRepository.findByUniversityId(universityId);
-        return ResponseEntity.ok(students);
+    public ResponseEntity<?> getStudentsByUniversity(@PathVariable Long universityId,
+                                                     @RequestParam(required = false) String fields) {
+        List<StudentView> students = studentService.getStudentsByUniversity(universityId);
+        return ResponseEntity.ok(sparseFieldset.apply(students, fields));
     }
     
     @GetMapping("/university/{universityId}/accepted")
-    public ResponseEntity<List<Student>> getAcceptedStudentsByUniversity(@PathVariable Long universityId) {
-        List<Student> students = studentService.getAcceptedStudentsByUniversity(universityId);
-        return ResponseEntity.ok(students);
+    public ResponseEntity<?> getAcceptedStudentsByUniversity(@PathVariable Long universityId,
+                                                             @RequestParam(required = false) String fields) {
+        List<StudentView> students = studentService.getAcceptedStudentsByUniversity(universityId);
+        return ResponseEntity.ok(sparseFieldset.apply(students, fields));
     }
     
     @PutMapping("/{id}")
-    public ResponseEntity<Student> updateStudent(@PathVariable Long id, @RequestBody Student studentDetails) {
+    public ResponseEntity<StudentView> updateStudent(@PathVariable Long id, @RequestBody Student studentDetails) {
         return studentRepository.findById(id)
             .map(student -> {
                 student.setStudentId(studentDetails.getStudentId());
@@ -56,16 +66,18 @@ public class StudentController {
                 student.setBio(studentDetails.getBio());
                 student.setSkills(studentDetails.getSkills());
                 student.setInterests(studentDetails.getInterests());
-                return ResponseEntity.ok(studentRepository.save(student));
+                Student savedStudent = studentRepository.save(student);
+                suggestionService.invalidate(savedStudent);
+                return ResponseEntity.ok(StudentView.from(savedStudent));
             })
             .orElse(ResponseEntity.notFound().build());
     }
     
     @PutMapping("/{id}/assign-supervisor")
-    public ResponseEntity<Student> assignSupervisor(@PathVariable Long id, @RequestBody Map<String, Long> request) {
+    public ResponseEntity<StudentView> assignSupervisor(@PathVariable Long id, @RequestBody Map<String, Long> request) {
         try {
             Student student = studentService.assignSupervisor(id, request.get("supervisorId"));
-            return ResponseEntity.ok(student);
+            return ResponseEntity.ok(StudentView.from(student));
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
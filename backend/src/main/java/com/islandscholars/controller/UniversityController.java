@@ -2,9 +2,12 @@ package com.islandscholars.controller;
 
 import com.islandscholars.entity.University;
 import com.islandscholars.repository.UniversityRepository;
+import com.islandscholars.service.CollectionVersionService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import java.util.List;
 
 @RestController
@@ -15,10 +18,17 @@ public class UniversityController {
     @Autowired
     private UniversityRepository universityRepository;
     
+    @Autowired
+    private CollectionVersionService collectionVersions;
+    
     @GetMapping
-    public ResponseEntity<List<University>> getAllUniversities() {
+    public ResponseEntity<List<University>> getAllUniversities(WebRequest request) {
+        // Answered with 304 straight from the change counter, before any query runs
+        if (request.checkNotModified(collectionVersions.etag(CollectionVersionService.UNIVERSITIES))) {
+            return null;
+        }
         List<University> universities = universityRepository.findAll();
-        return ResponseEntity.ok(universities);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(universities);
     }
     
     @GetMapping("/{id}")
@@ -31,6 +41,7 @@ public class UniversityController {
     @PostMapping
     public ResponseEntity<University> createUniversity(@RequestBody University university) {
         University savedUniversity = universityRepository.save(university);
+        collectionVersions.bump(CollectionVersionService.UNIVERSITIES);
         return ResponseEntity.ok(savedUniversity);
     }
     
@@ -46,7 +57,9 @@ public class UniversityController {
                 university.setEstablishedYear(universityDetails.getEstablishedYear());
                 university.setStudentCount(universityDetails.getStudentCount());
                 university.setFacultyCount(universityDetails.getFacultyCount());
-                return ResponseEntity.ok(universityRepository.save(university));
+                University savedUniversity = universityRepository.save(university);
+                collectionVersions.bump(CollectionVersionService.UNIVERSITIES);
+                return ResponseEntity.ok(savedUniversity);
             })
             .orElse(ResponseEntity.notFound().build());
     }
@@ -54,6 +67,7 @@ public class UniversityController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteUniversity(@PathVariable Long id) {
         universityRepository.deleteById(id);
+        collectionVersions.bump(CollectionVersionService.UNIVERSITIES);
         return ResponseEntity.ok().build();
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.islandscholars.controller;
 
+import com.islandscholars.dto.UserView;
 import com.islandscholars.entity.User;
 import com.islandscholars.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,24 +17,27 @@ public class UserController {
     @Autowired
     private UserService userService;
     
+    @Autowired
+    private SparseFieldset sparseFieldset;
+    
     @GetMapping
-    public ResponseEntity<List<User>> getAllUsers() {
-        List<User> users = userService.getAllUsers();
-        return ResponseEntity.ok(users);
+    public ResponseEntity<?> getAllUsers(@RequestParam(required = false) String fields) {
+        List<UserView> users = userService.getAllUsers();
+        return ResponseEntity.ok(sparseFieldset.apply(users, fields));
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<User> getUserById(@PathVariable Long id) {
+    public ResponseEntity<?> getUserById(@PathVariable Long id, @RequestParam(required = false) String fields) {
         return userService.getUserById(id)
-            .map(ResponseEntity::ok)
+            .<ResponseEntity<?>>map(user -> ResponseEntity.ok(sparseFieldset.apply(UserView.from(user), fields)))
             .orElse(ResponseEntity.notFound().build());
     }
     
     @PutMapping("/{id}")
-    public ResponseEntity<User> updateUser(@PathVariable Long id, @RequestBody User userDetails) {
+    public ResponseEntity<UserView> updateUser(@PathVariable Long id, @RequestBody User userDetails) {
         try {
             User user = userService.updateUser(id, userDetails);
-            return ResponseEntity.ok(user);
+            return ResponseEntity.ok(UserView.from(user));
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -0,0 +1,44 @@
+package com.islandscholars.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// Opaque keyset position over (appliedAt DESC, id DESC)
+public class ApplicationCursor {
+    // Sorts after every real row, so the first page can use the same keyset query
+    public static final ApplicationCursor START = new ApplicationCursor(LocalDateTime.of(9999, 12, 31, 23, 59), Long.MAX_VALUE);
+    
+    private final LocalDateTime appliedAt;
+    private final Long id;
+    
+    public ApplicationCursor(LocalDateTime appliedAt, Long id) {
+        this.appliedAt = appliedAt;
+        this.id = id;
+    }
+    
+    public static ApplicationCursor decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return START;
+        }
+        
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf('|');
+            return new ApplicationCursor(
+                LocalDateTime.parse(decoded.substring(0, separator)),
+                Long.valueOf(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+    
+    public String encode() {
+        String raw = appliedAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    public LocalDateTime getAppliedAt() { return appliedAt; }
+    public Long getId() { return id; }
+}
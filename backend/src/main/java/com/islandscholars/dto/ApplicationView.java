@@ -0,0 +1,189 @@
+package com.islandscholars.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.islandscholars.entity.Application;
+import com.islandscholars.entity.Internship;
+import com.islandscholars.entity.Student;
+import java.time.LocalDateTime;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ApplicationView {
+    private Long id;
+    private String status;
+    private LocalDateTime appliedAt;
+    private LocalDateTime reviewedAt;
+    private String coverLetter;
+    private String whyInterested;
+    private String relevantExperience;
+    private String availability;
+    private String additionalInfo;
+    private StudentSummary student;
+    private InternshipSummary internship;
+    private NamedRef organization;
+    
+    public ApplicationView() {}
+    
+    // Constructor used by the list projections. The review modals render the answers straight from
+    // the list row, so they are included; use ?fields= to drop them from large lists.
+    public ApplicationView(Long id, String status, LocalDateTime appliedAt, LocalDateTime reviewedAt, String coverLetter,
+                           String whyInterested, String relevantExperience, String availability, String additionalInfo,
+                           Long studentId, String studentNumber, String fieldOfStudy,
+                           Long userId, String email, String firstName, String lastName,
+                           Long universityId, String universityName,
+                           Long internshipId, String internshipTitle, String internshipLocation, String internshipDuration,
+                           Long internshipOrganizationId, String internshipOrganizationName,
+                           Long organizationId, String organizationName) {
+        this.id = id;
+        this.status = status;
+        this.appliedAt = appliedAt;
+        this.reviewedAt = reviewedAt;
+        this.coverLetter = coverLetter;
+        this.whyInterested = whyInterested;
+        this.relevantExperience = relevantExperience;
+        this.availability = availability;
+        this.additionalInfo = additionalInfo;
+        this.student = new StudentSummary(studentId, studentNumber, fieldOfStudy,
+            new UserView(userId, email, firstName, lastName, null, null, null),
+            NamedRef.of(universityId, universityName));
+        if (internshipId != null) {
+            this.internship = new InternshipSummary(internshipId, internshipTitle, internshipLocation, internshipDuration,
+                NamedRef.of(internshipOrganizationId, internshipOrganizationName));
+        }
+        this.organization = NamedRef.of(organizationId, organizationName);
+    }
+    
+    public static ApplicationView from(Application application) {
+        ApplicationView view = new ApplicationView();
+        view.id = application.getId();
+        view.status = application.getStatus();
+        view.appliedAt = application.getAppliedAt();
+        view.reviewedAt = application.getReviewedAt();
+        view.coverLetter = application.getCoverLetter();
+        view.whyInterested = application.getWhyInterested();
+        view.relevantExperience = application.getRelevantExperience();
+        view.availability = application.getAvailability();
+        view.additionalInfo = application.getAdditionalInfo();
+        
+        Student student = application.getStudent();
+        if (student != null) {
+            NamedRef university = student.getUniversity() != null
+                ? new NamedRef(student.getUniversity().getId(), student.getUniversity().getName()) : null;
+            view.student = new StudentSummary(student.getId(), student.getStudentId(), student.getFieldOfStudy(), UserView.from(student.getUser()), university);
+        }
+        
+        Internship internship = application.getInternship();
+        if (internship != null) {
+            NamedRef organization = internship.getOrganization() != null
+                ? new NamedRef(internship.getOrganization().getId(), internship.getOrganization().getName()) : null;
+            view.internship = new InternshipSummary(internship.getId(), internship.getTitle(), internship.getLocation(),
+                internship.getDuration(), organization);
+        }
+        
+        if (application.getOrganization() != null) {
+            view.organization = new NamedRef(application.getOrganization().getId(), application.getOrganization().getName());
+        }
+        return view;
+    }
+    
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    
+    public LocalDateTime getAppliedAt() { return appliedAt; }
+    public void setAppliedAt(LocalDateTime appliedAt) { this.appliedAt = appliedAt; }
+    
+    public LocalDateTime getReviewedAt() { return reviewedAt; }
+    public void setReviewedAt(LocalDateTime reviewedAt) { this.reviewedAt = reviewedAt; }
+    
+    public String getCoverLetter() { return coverLetter; }
+    public void setCoverLetter(String coverLetter) { this.coverLetter = coverLetter; }
+    
+    public String getWhyInterested() { return whyInterested; }
+    public void setWhyInterested(String whyInterested) { this.whyInterested = whyInterested; }
+    
+    public String getRelevantExperience() { return relevantExperience; }
+    public void setRelevantExperience(String relevantExperience) { this.relevantExperience = relevantExperience; }
+    
+    public String getAvailability() { return availability; }
+    public void setAvailability(String availability) { this.availability = availability; }
+    
+    public String getAdditionalInfo() { return additionalInfo; }
+    public void setAdditionalInfo(String additionalInfo) { this.additionalInfo = additionalInfo; }
+    
+    public StudentSummary getStudent() { return student; }
+    public void setStudent(StudentSummary student) { this.student = student; }
+    
+    public InternshipSummary getInternship() { return internship; }
+    public void setInternship(InternshipSummary internship) { this.internship = internship; }
+    
+    public NamedRef getOrganization() { return organization; }
+    public void setOrganization(NamedRef organization) { this.organization = organization; }
+    
+    public static class StudentSummary {
+        private Long id;
+        private String studentId;
+        private String fieldOfStudy;
+        private UserView user;
+        private NamedRef university;
+        
+        public StudentSummary() {}
+        
+        public StudentSummary(Long id, String studentId, String fieldOfStudy, UserView user, NamedRef university) {
+            this.id = id;
+            this.studentId = studentId;
+            this.fieldOfStudy = fieldOfStudy;
+            this.user = user;
+            this.university = university;
+        }
+        
+        public Long getId() { return id; }
+        public void setId(Long id) { this.id = id; }
+        
+        public String getStudentId() { return studentId; }
+        public void setStudentId(String studentId) { this.studentId = studentId; }
+        
+        public String getFieldOfStudy() { return fieldOfStudy; }
+        public void setFieldOfStudy(String fieldOfStudy) { this.fieldOfStudy = fieldOfStudy; }
+        
+        public UserView getUser() { return user; }
+        public void setUser(UserView user) { this.user = user; }
+        
+        public NamedRef getUniversity() { return university; }
+        public void setUniversity(NamedRef university) { this.university = university; }
+    }
+    
+    public static class InternshipSummary {
+        private Long id;
+        private String title;
+        private String location;
+        private String duration;
+        private NamedRef organization;
+        
+        public InternshipSummary() {}
+        
+        public InternshipSummary(Long id, String title, String location, String duration, NamedRef organization) {
+            this.id = id;
+            this.title = title;
+            this.location = location;
+            this.duration = duration;
+            this.organization = organization;
+        }
+        
+        public Long getId() { return id; }
+        public void setId(Long id) { this.id = id; }
+        
+        public String getTitle() { return title; }
+        public void setTitle(String title) { this.title = title; }
+        
+        public String getLocation() { return location; }
+        public void setLocation(String location) { this.location = location; }
+        
+        public String getDuration() { return duration; }
+        public void setDuration(String duration) { this.duration = duration; }
+        
+        public NamedRef getOrganization() { return organization; }
+        public void setOrganization(NamedRef organization) { this.organization = organization; }
+    }
+}
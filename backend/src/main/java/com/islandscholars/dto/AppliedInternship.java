@@ -0,0 +1,6 @@
+package com.islandscholars.dto;
+
+public interface AppliedInternship {
+    Long getInternshipId();
+    String getField();
+}
@@ -1,5 +1,6 @@
 package com.islandscholars.dto;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public class CreateInternshipRequest {
@@ -11,7 +12,7 @@ public class CreateInternshipRequest {
     private String field;
     private String type;
     private Integer spotsAvailable;
-    private String startDate;
+    private LocalDate startDate;
     private List<String> requirements;
     private List<String> responsibilities;
     
@@ -41,8 +42,8 @@ public class CreateInternshipRequest {
     public Integer getSpotsAvailable() { return spotsAvailable; }
     public void setSpotsAvailable(Integer spotsAvailable) { this.spotsAvailable = spotsAvailable; }
     
-    public String getStartDate() { return startDate; }
-    public void setStartDate(String startDate) { this.startDate = startDate; }
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
     
     public List<String> getRequirements() { return requirements; }
     public void setRequirements(List<String> requirements) { this.requirements = requirements; }
@@ -0,0 +1,6 @@
+package com.islandscholars.dto;
+
+public interface DimensionCount {
+    String getDimension();
+    Long getCount();
+}
@@ -0,0 +1,7 @@
+package com.islandscholars.dto;
+
+public interface FacetCount {
+    String getFacet();
+    String getValue();
+    Long getCount();
+}
@@ -1,5 +1,7 @@
 package com.islandscholars.dto;
 
+import java.time.LocalDate;
+
 public class InternshipDTO {
     private Long id;
     private String title;
@@ -9,7 +11,7 @@ public class InternshipDTO {
     private String field;
     private String type;
     private Integer spotsAvailable;
-    private String startDate;
+    private LocalDate startDate;
     private String status;
     private String organizationName;
     private String requirements;
@@ -19,7 +21,7 @@ public class InternshipDTO {
     public InternshipDTO() {
     }
 
-    public InternshipDTO(Long id, String title, String description, String location, String duration, String field, String type, Integer spotsAvailable, String startDate, String status, String organizationName, String requirements, String responsibilities) {
+    public InternshipDTO(Long id, String title, String description, String location, String duration, String field, String type, Integer spotsAvailable, LocalDate startDate, String status, String organizationName, String requirements, String responsibilities) {
         this.id = id;
         this.title = title;
         this.description = description;
@@ -100,11 +102,11 @@ public class InternshipDTO {
         this.spotsAvailable = spotsAvailable;
     }
 
-    public String getStartDate() {
+    public LocalDate getStartDate() {
         return startDate;
     }
 
-    public void setStartDate(String startDate) {
+    public void setStartDate(LocalDate startDate) {
         this.startDate = startDate;
     }
 
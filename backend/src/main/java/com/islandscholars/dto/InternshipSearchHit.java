@@ -0,0 +1,20 @@
+package com.islandscholars.dto;
+
+import java.time.LocalDate;
+
+public interface InternshipSearchHit {
+    Long getId();
+    String getTitle();
+    String getDescription();
+    String getLocation();
+    String getDuration();
+    String getField();
+    String getType();
+    Integer getSpotsAvailable();
+    LocalDate getStartDate();
+    String getStatus();
+    String getOrganizationName();
+    String getRequirements();
+    String getResponsibilities();
+    Double getRank();
+}
@@ -0,0 +1,16 @@
+package com.islandscholars.dto;
+
+import java.time.LocalDateTime;
+
+public interface JobLeaseStatus {
+    String getJobName();
+    String getLockedBy();
+    LocalDateTime getLockedAt();
+    LocalDateTime getLockedUntil();
+    Boolean getHeld();
+    LocalDateTime getLastStartedAt();
+    LocalDateTime getLastFinishedAt();
+    Long getLastDurationMs();
+    String getLastStatus();
+    String getLastError();
+}
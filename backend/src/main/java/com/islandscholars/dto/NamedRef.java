@@ -0,0 +1,23 @@
+package com.islandscholars.dto;
+
+public class NamedRef {
+    private Long id;
+    private String name;
+    
+    public NamedRef() {}
+    
+    public NamedRef(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+    
+    public static NamedRef of(Long id, String name) {
+        return id != null ? new NamedRef(id, name) : null;
+    }
+    
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+}
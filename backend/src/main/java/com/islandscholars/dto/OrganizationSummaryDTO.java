@@ -0,0 +1,50 @@
+package com.islandscholars.dto;
+
+public class OrganizationSummaryDTO {
+    private Long id;
+    private String name;
+    private String industry;
+    private String location;
+    private String description;
+    private String website;
+    private Integer foundedYear;
+    private Long activeInternshipCount;
+    
+    public OrganizationSummaryDTO() {}
+    
+    public OrganizationSummaryDTO(Long id, String name, String industry, String location, String description,
+                                  String website, Integer foundedYear, Long activeInternshipCount) {
+        this.id = id;
+        this.name = name;
+        this.industry = industry;
+        this.location = location;
+        this.description = description;
+        this.website = website;
+        this.foundedYear = foundedYear;
+        this.activeInternshipCount = activeInternshipCount;
+    }
+    
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    
+    public String getIndustry() { return industry; }
+    public void setIndustry(String industry) { this.industry = industry; }
+    
+    public String getLocation() { return location; }
+    public void setLocation(String location) { this.location = location; }
+    
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+    
+    public String getWebsite() { return website; }
+    public void setWebsite(String website) { this.website = website; }
+    
+    public Integer getFoundedYear() { return foundedYear; }
+    public void setFoundedYear(Integer foundedYear) { this.foundedYear = foundedYear; }
+    
+    public Long getActiveInternshipCount() { return activeInternshipCount; }
+    public void setActiveInternshipCount(Long activeInternshipCount) { this.activeInternshipCount = activeInternshipCount; }
+}
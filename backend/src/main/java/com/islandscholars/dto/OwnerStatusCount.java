@@ -0,0 +1,5 @@
+package com.islandscholars.dto;
+
+public interface OwnerStatusCount extends StatusCount {
+    Long getOwnerId();
+}
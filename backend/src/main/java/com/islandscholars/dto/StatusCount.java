@@ -0,0 +1,6 @@
+package com.islandscholars.dto;
+
+public interface StatusCount {
+    String getStatus();
+    Long getCount();
+}
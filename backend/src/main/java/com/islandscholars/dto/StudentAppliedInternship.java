@@ -0,0 +1,5 @@
+package com.islandscholars.dto;
+
+public interface StudentAppliedInternship extends AppliedInternship {
+    Long getStudentId();
+}
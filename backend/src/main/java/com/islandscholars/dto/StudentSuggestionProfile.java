@@ -0,0 +1,11 @@
+package com.islandscholars.dto;
+
+public interface StudentSuggestionProfile {
+    Long getStudentId();
+    Long getUserId();
+    String getFieldOfStudy();
+    String getUniversityLocation();
+    String getSkills();
+    String getInterests();
+    Long getSuggestionRevision();
+}
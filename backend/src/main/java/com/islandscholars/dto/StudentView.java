@@ -0,0 +1,128 @@
+package com.islandscholars.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.islandscholars.entity.Student;
+import com.islandscholars.entity.Supervisor;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class StudentView {
+    private Long id;
+    private String studentId;
+    private String fieldOfStudy;
+    private String yearOfStudy;
+    private String address;
+    private String bio;
+    private String skills;
+    private String interests;
+    private UserView user;
+    private NamedRef university;
+    private Long supervisorId;
+    private SupervisorSummary supervisor;
+    
+    public StudentView() {}
+    
+    // Constructor used by the JPQL projections; supervisor columns come from LEFT JOINs and may be null
+    public StudentView(Long id, String studentId, String fieldOfStudy, String yearOfStudy, String address,
+                       String bio, String skills, String interests,
+                       Long userId, String email, String firstName, String lastName, String phoneNumber,
+                       Long universityId, String universityName,
+                       Long supervisorId, String supervisorDepartment,
+                       Long supervisorUserId, String supervisorFirstName, String supervisorLastName, String supervisorEmail) {
+        this.id = id;
+        this.studentId = studentId;
+        this.fieldOfStudy = fieldOfStudy;
+        this.yearOfStudy = yearOfStudy;
+        this.address = address;
+        this.bio = bio;
+        this.skills = skills;
+        this.interests = interests;
+        this.user = new UserView(userId, email, firstName, lastName, phoneNumber, null, null);
+        this.university = NamedRef.of(universityId, universityName);
+        this.supervisorId = supervisorId;
+        if (supervisorId != null) {
+            this.supervisor = new SupervisorSummary(supervisorId, supervisorDepartment,
+                new UserView(supervisorUserId, supervisorEmail, supervisorFirstName, supervisorLastName, null, null, null));
+        }
+    }
+    
+    public static StudentView from(Student student) {
+        StudentView view = new StudentView();
+        view.id = student.getId();
+        view.studentId = student.getStudentId();
+        view.fieldOfStudy = student.getFieldOfStudy();
+        view.yearOfStudy = student.getYearOfStudy();
+        view.address = student.getAddress();
+        view.bio = student.getBio();
+        view.skills = student.getSkills();
+        view.interests = student.getInterests();
+        view.user = UserView.from(student.getUser());
+        if (student.getUniversity() != null) {
+            view.university = new NamedRef(student.getUniversity().getId(), student.getUniversity().getName());
+        }
+        Supervisor supervisor = student.getSupervisor();
+        if (supervisor != null) {
+            view.supervisorId = supervisor.getId();
+            view.supervisor = new SupervisorSummary(supervisor.getId(), supervisor.getDepartment(), UserView.from(supervisor.getUser()));
+        }
+        return view;
+    }
+    
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getStudentId() { return studentId; }
+    public void setStudentId(String studentId) { this.studentId = studentId; }
+    
+    public String getFieldOfStudy() { return fieldOfStudy; }
+    public void setFieldOfStudy(String fieldOfStudy) { this.fieldOfStudy = fieldOfStudy; }
+    
+    public String getYearOfStudy() { return yearOfStudy; }
+    public void setYearOfStudy(String yearOfStudy) { this.yearOfStudy = yearOfStudy; }
+    
+    public String getAddress() { return address; }
+    public void setAddress(String address) { this.address = address; }
+    
+    public String getBio() { return bio; }
+    public void setBio(String bio) { this.bio = bio; }
+    
+    public String getSkills() { return skills; }
+    public void setSkills(String skills) { this.skills = skills; }
+    
+    public String getInterests() { return interests; }
+    public void setInterests(String interests) { this.interests = interests; }
+    
+    public UserView getUser() { return user; }
+    public void setUser(UserView user) { this.user = user; }
+    
+    public NamedRef getUniversity() { return university; }
+    public void setUniversity(NamedRef university) { this.university = university; }
+    
+    public Long getSupervisorId() { return supervisorId; }
+    public void setSupervisorId(Long supervisorId) { this.supervisorId = supervisorId; }
+    
+    public SupervisorSummary getSupervisor() { return supervisor; }
+    public void setSupervisor(SupervisorSummary supervisor) { this.supervisor = supervisor; }
+    
+    public static class SupervisorSummary {
+        private Long id;
+        private String department;
+        private UserView user;
+        
+        public SupervisorSummary() {}
+        
+        public SupervisorSummary(Long id, String department, UserView user) {
+            this.id = id;
+            this.department = department;
+            this.user = user;
+        }
+        
+        public Long getId() { return id; }
+        public void setId(Long id) { this.id = id; }
+        
+        public String getDepartment() { return department; }
+        public void setDepartment(String department) { this.department = department; }
+        
+        public UserView getUser() { return user; }
+        public void setUser(UserView user) { this.user = user; }
+    }
+}
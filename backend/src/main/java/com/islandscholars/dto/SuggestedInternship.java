@@ -0,0 +1,87 @@
+package com.islandscholars.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SuggestedInternship {
+    private Long id;
+    private String title;
+    private String description;
+    private String location;
+    private String duration;
+    private String field;
+    private String type;
+    private Integer spotsAvailable;
+    private LocalDate startDate;
+    private String status;
+    private String requirements;
+    private String responsibilities;
+    private LocalDateTime createdAt;
+    private NamedRef organization;
+    
+    public SuggestedInternship() {}
+    
+    public SuggestedInternship(Long id, String title, String description, String location, String duration,
+                               String field, String type, Integer spotsAvailable, LocalDate startDate, String status,
+                               String requirements, String responsibilities, LocalDateTime createdAt,
+                               Long organizationId, String organizationName) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.location = location;
+        this.duration = duration;
+        this.field = field;
+        this.type = type;
+        this.spotsAvailable = spotsAvailable;
+        this.startDate = startDate;
+        this.status = status;
+        this.requirements = requirements;
+        this.responsibilities = responsibilities;
+        this.createdAt = createdAt;
+        this.organization = NamedRef.of(organizationId, organizationName);
+    }
+    
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+    
+    public String getLocation() { return location; }
+    public void setLocation(String location) { this.location = location; }
+    
+    public String getDuration() { return duration; }
+    public void setDuration(String duration) { this.duration = duration; }
+    
+    public String getField() { return field; }
+    public void setField(String field) { this.field = field; }
+    
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+    
+    public Integer getSpotsAvailable() { return spotsAvailable; }
+    public void setSpotsAvailable(Integer spotsAvailable) { this.spotsAvailable = spotsAvailable; }
+    
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+    
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    
+    public String getRequirements() { return requirements; }
+    public void setRequirements(String requirements) { this.requirements = requirements; }
+    
+    public String getResponsibilities() { return responsibilities; }
+    public void setResponsibilities(String responsibilities) { this.responsibilities = responsibilities; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    
+    public NamedRef getOrganization() { return organization; }
+    public void setOrganization(NamedRef organization) { this.organization = organization; }
+}
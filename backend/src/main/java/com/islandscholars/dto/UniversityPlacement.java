@@ -0,0 +1,8 @@
+package com.islandscholars.dto;
+
+public interface UniversityPlacement {
+    Long getUniversityId();
+    Long getTotalStudents();
+    Long getPlacedStudents();
+    Long getSupervisedStudents();
+}
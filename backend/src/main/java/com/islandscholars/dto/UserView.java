@@ -0,0 +1,59 @@
+package com.islandscholars.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.islandscholars.entity.User;
+import com.islandscholars.entity.UserRole;
+import java.time.LocalDateTime;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserView {
+    private Long id;
+    private String email;
+    private String firstName;
+    private String lastName;
+    private String phoneNumber;
+    private UserRole role;
+    private LocalDateTime createdAt;
+    
+    public UserView() {}
+    
+    public UserView(Long id, String email, String firstName, String lastName, String phoneNumber,
+                    UserRole role, LocalDateTime createdAt) {
+        this.id = id;
+        this.email = email;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.phoneNumber = phoneNumber;
+        this.role = role;
+        this.createdAt = createdAt;
+    }
+    
+    public static UserView from(User user) {
+        if (user == null) {
+            return null;
+        }
+        return new UserView(user.getId(), user.getEmail(), user.getFirstName(), user.getLastName(),
+            user.getPhoneNumber(), user.getRole(), user.getCreatedAt());
+    }
+    
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+    
+    public String getFirstName() { return firstName; }
+    public void setFirstName(String firstName) { this.firstName = firstName; }
+    
+    public String getLastName() { return lastName; }
+    public void setLastName(String lastName) { this.lastName = lastName; }
+    
+    public String getPhoneNumber() { return phoneNumber; }
+    public void setPhoneNumber(String phoneNumber) { this.phoneNumber = phoneNumber; }
+    
+    public UserRole getRole() { return role; }
+    public void setRole(UserRole role) { this.role = role; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
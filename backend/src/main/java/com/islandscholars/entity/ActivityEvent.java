@@ -0,0 +1,55 @@
+package com.islandscholars.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "activity_events")
+public class ActivityEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false)
+    private String type;
+    
+    @Column(nullable = false)
+    private String description;
+    
+    @Column(name = "user_id")
+    private Long userId;
+    
+    @Column(name = "reference_id")
+    private Long referenceId;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    public ActivityEvent() {}
+    
+    public ActivityEvent(String type, String description, Long userId, Long referenceId) {
+        this.type = type;
+        this.description = description;
+        this.userId = userId;
+        this.referenceId = referenceId;
+        this.createdAt = LocalDateTime.now();
+    }
+    
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+    
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+    
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    
+    public Long getReferenceId() { return referenceId; }
+    public void setReferenceId(Long referenceId) { this.referenceId = referenceId; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -4,7 +4,13 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "applications")
+@Table(name = "applications", indexes = {
+    @Index(name = "idx_applications_status", columnList = "status"),
+    @Index(name = "idx_applications_applied", columnList = "applied_at, id"),
+    @Index(name = "idx_applications_student_applied", columnList = "student_id, applied_at, id"),
+    @Index(name = "idx_applications_internship_applied", columnList = "internship_id, applied_at, id"),
+    @Index(name = "idx_applications_organization_applied", columnList = "organization_id, applied_at, id")
+})
 public class Application {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
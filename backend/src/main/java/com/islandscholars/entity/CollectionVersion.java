@@ -0,0 +1,22 @@
+package com.islandscholars.entity;
+
+import jakarta.persistence.*;
+
+// Change counter per cached collection, shared by every node (see CollectionVersionService)
+@Entity
+@Table(name = "collection_versions")
+public class CollectionVersion {
+    @Id
+    private String name;
+    
+    @Column(nullable = false)
+    private Long version;
+    
+    public CollectionVersion() {}
+    
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+}
@@ -0,0 +1,43 @@
+package com.islandscholars.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "daily_rollups", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_daily_rollups_day_metric_dimension", columnNames = {"day", "metric", "dimension"})
+})
+public class DailyRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false)
+    private LocalDate day;
+    
+    @Column(nullable = false)
+    private String metric;
+    
+    @Column(nullable = false)
+    private String dimension;
+    
+    @Column(nullable = false)
+    private Long count = 0L;
+    
+    public DailyRollup() {}
+    
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public LocalDate getDay() { return day; }
+    public void setDay(LocalDate day) { this.day = day; }
+    
+    public String getMetric() { return metric; }
+    public void setMetric(String metric) { this.metric = metric; }
+    
+    public String getDimension() { return dimension; }
+    public void setDimension(String dimension) { this.dimension = dimension; }
+    
+    public Long getCount() { return count; }
+    public void setCount(Long count) { this.count = count; }
+}
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
+// Lookups by student and type go through the (student_id, LOWER(type)) expression index created by
+// DocumentIndexInitializer, since ddl-auto cannot declare expression indexes
 @Table(name = "documents")
 public class Document {
     @Id
@@ -1,5 +1,6 @@
 package com.islandscholars.entity;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -11,6 +12,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -19,7 +21,12 @@ import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "internships")
+@Table(name = "internships", indexes = {
+    @Index(name = "idx_internships_status", columnList = "status"),
+    @Index(name = "idx_internships_organization_status", columnList = "organization_id, status"),
+    @Index(name = "idx_internships_status_field_location", columnList = "status, field, location"),
+    @Index(name = "idx_internships_status_start_date", columnList = "status, start_date")
+})
 public class Internship {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -52,7 +59,7 @@ public class Internship {
     private Integer spotsAvailable;
     
     @Column(name = "start_date")
-    private String startDate;
+    private LocalDate startDate;
     
     @Column(columnDefinition = "TEXT")
     private String requirements;
@@ -112,8 +119,8 @@ public class Internship {
     public Integer getSpotsAvailable() { return spotsAvailable; }
     public void setSpotsAvailable(Integer spotsAvailable) { this.spotsAvailable = spotsAvailable; }
     
-    public String getStartDate() { return startDate; }
-    public void setStartDate(String startDate) { this.startDate = startDate; }
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
     
     public String getRequirements() { return requirements; }
     public void setRequirements(String requirements) { this.requirements = requirements; }
@@ -0,0 +1,67 @@
+package com.islandscholars.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// One row per cluster-wide scheduled job. A node may run the job only while it holds the lease,
+// i.e. locked_by is its node id and locked_until is in the future. The row also keeps the last run.
+@Entity
+@Table(name = "job_leases")
+public class JobLease {
+    @Id
+    @Column(name = "job_name")
+    private String jobName;
+    
+    @Column(name = "locked_by")
+    private String lockedBy;
+    
+    @Column(name = "locked_at")
+    private LocalDateTime lockedAt;
+    
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+    
+    @Column(name = "last_started_at")
+    private LocalDateTime lastStartedAt;
+    
+    @Column(name = "last_finished_at")
+    private LocalDateTime lastFinishedAt;
+    
+    @Column(name = "last_duration_ms")
+    private Long lastDurationMs;
+    
+    @Column(name = "last_status")
+    private String lastStatus;
+    
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+    
+    public JobLease() {}
+    
+    public String getJobName() { return jobName; }
+    public void setJobName(String jobName) { this.jobName = jobName; }
+    
+    public String getLockedBy() { return lockedBy; }
+    public void setLockedBy(String lockedBy) { this.lockedBy = lockedBy; }
+    
+    public LocalDateTime getLockedAt() { return lockedAt; }
+    public void setLockedAt(LocalDateTime lockedAt) { this.lockedAt = lockedAt; }
+    
+    public LocalDateTime getLockedUntil() { return lockedUntil; }
+    public void setLockedUntil(LocalDateTime lockedUntil) { this.lockedUntil = lockedUntil; }
+    
+    public LocalDateTime getLastStartedAt() { return lastStartedAt; }
+    public void setLastStartedAt(LocalDateTime lastStartedAt) { this.lastStartedAt = lastStartedAt; }
+    
+    public LocalDateTime getLastFinishedAt() { return lastFinishedAt; }
+    public void setLastFinishedAt(LocalDateTime lastFinishedAt) { this.lastFinishedAt = lastFinishedAt; }
+    
+    public Long getLastDurationMs() { return lastDurationMs; }
+    public void setLastDurationMs(Long lastDurationMs) { this.lastDurationMs = lastDurationMs; }
+    
+    public String getLastStatus() { return lastStatus; }
+    public void setLastStatus(String lastStatus) { this.lastStatus = lastStatus; }
+    
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+}
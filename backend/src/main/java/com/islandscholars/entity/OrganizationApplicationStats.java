@@ -0,0 +1,47 @@
+package com.islandscholars.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "organization_application_stats")
+public class OrganizationApplicationStats {
+    @Id
+    @Column(name = "organization_id")
+    private Long organizationId;
+    
+    @Column(nullable = false)
+    private Long received = 0L;
+    
+    @Column(nullable = false)
+    private Long accepted = 0L;
+    
+    @Column(nullable = false)
+    private Long rejected = 0L;
+    
+    @Column(nullable = false)
+    private Long pending = 0L;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    public OrganizationApplicationStats() {}
+    
+    public Long getOrganizationId() { return organizationId; }
+    public void setOrganizationId(Long organizationId) { this.organizationId = organizationId; }
+    
+    public Long getReceived() { return received; }
+    public void setReceived(Long received) { this.received = received; }
+    
+    public Long getAccepted() { return accepted; }
+    public void setAccepted(Long accepted) { this.accepted = accepted; }
+    
+    public Long getRejected() { return rejected; }
+    public void setRejected(Long rejected) { this.rejected = rejected; }
+    
+    public Long getPending() { return pending; }
+    public void setPending(Long pending) { this.pending = pending; }
+    
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -0,0 +1,55 @@
+package com.islandscholars.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// One row per reminder ever sent. The unique key makes sending idempotent: a reminder is only
+// written when its (user, internship, kind, window) row could be inserted.
+@Entity
+@Table(name = "reminder_ledger", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_reminder_ledger_user_internship_kind_window",
+                      columnNames = {"user_id", "internship_id", "kind", "window_key"})
+})
+public class ReminderLedgerEntry {
+    // internship_id for reminders that are not about an internship; NULLs would never conflict
+    public static final long NO_INTERNSHIP = 0L;
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Column(name = "internship_id", nullable = false)
+    private Long internshipId = NO_INTERNSHIP;
+    
+    @Column(nullable = false)
+    private String kind;
+    
+    @Column(name = "window_key", nullable = false)
+    private String windowKey;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    public ReminderLedgerEntry() {}
+    
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    
+    public Long getInternshipId() { return internshipId; }
+    public void setInternshipId(Long internshipId) { this.internshipId = internshipId; }
+    
+    public String getKind() { return kind; }
+    public void setKind(String kind) { this.kind = kind; }
+    
+    public String getWindowKey() { return windowKey; }
+    public void setWindowKey(String windowKey) { this.windowKey = windowKey; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -1,5 +1,6 @@
 package com.islandscholars.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -49,6 +50,12 @@ public class Student {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    // Bumped in SQL whenever something the student's suggestions depend on changes; never written
+    // through the entity, so a save of a stale Student cannot roll it back
+    @JsonIgnore
+    @Column(name = "suggestion_revision", insertable = false, updatable = false, columnDefinition = "bigint default 0")
+    private Long suggestionRevision;
+    
     @OneToMany(mappedBy = "student", cascade = CascadeType.ALL)
     private List<Application> applications;
     
@@ -107,6 +114,8 @@ public class Student {
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
     
+    public Long getSuggestionRevision() { return suggestionRevision; }
+    
     public List<Application> getApplications() { return applications; }
     public void setApplications(List<Application> applications) { this.applications = applications; }
     
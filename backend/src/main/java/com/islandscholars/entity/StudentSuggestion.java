@@ -0,0 +1,56 @@
+package com.islandscholars.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "student_suggestions", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_student_suggestions_student_position", columnNames = {"student_id", "position"})
+})
+public class StudentSuggestion {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+    
+    @Column(name = "internship_id", nullable = false)
+    private Long internshipId;
+    
+    @Column(nullable = false)
+    private Integer position;
+    
+    @Column(nullable = false)
+    private Integer score;
+    
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+    
+    // The student's suggestion_revision the row was computed from; rows are stale once it moves on
+    @Column(name = "student_revision")
+    private Long studentRevision;
+    
+    public StudentSuggestion() {}
+    
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public Long getStudentId() { return studentId; }
+    public void setStudentId(Long studentId) { this.studentId = studentId; }
+    
+    public Long getInternshipId() { return internshipId; }
+    public void setInternshipId(Long internshipId) { this.internshipId = internshipId; }
+    
+    public Integer getPosition() { return position; }
+    public void setPosition(Integer position) { this.position = position; }
+    
+    public Integer getScore() { return score; }
+    public void setScore(Integer score) { this.score = score; }
+    
+    public LocalDateTime getComputedAt() { return computedAt; }
+    public void setComputedAt(LocalDateTime computedAt) { this.computedAt = computedAt; }
+    
+    public Long getStudentRevision() { return studentRevision; }
+    public void setStudentRevision(Long studentRevision) { this.studentRevision = studentRevision; }
+}
@@ -0,0 +1,55 @@
+package com.islandscholars.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// One row per completed suggestion precompute, written in the same transaction as the
+// student_suggestions rows. The latest run's catalog version decides whether those rows are served.
+@Entity
+@Table(name = "suggestion_precompute_runs")
+public class SuggestionPrecomputeRun {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "catalog_version", nullable = false)
+    private String catalogVersion;
+    
+    @Column(nullable = false)
+    private Integer students;
+    
+    @Column(nullable = false)
+    private Integer candidates;
+    
+    @Column(name = "row_count", nullable = false)
+    private Integer rowCount;
+    
+    @Column(name = "duration_ms", nullable = false)
+    private Long durationMs;
+    
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+    
+    public SuggestionPrecomputeRun() {}
+    
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getCatalogVersion() { return catalogVersion; }
+    public void setCatalogVersion(String catalogVersion) { this.catalogVersion = catalogVersion; }
+    
+    public Integer getStudents() { return students; }
+    public void setStudents(Integer students) { this.students = students; }
+    
+    public Integer getCandidates() { return candidates; }
+    public void setCandidates(Integer candidates) { this.candidates = candidates; }
+    
+    public Integer getRowCount() { return rowCount; }
+    public void setRowCount(Integer rowCount) { this.rowCount = rowCount; }
+    
+    public Long getDurationMs() { return durationMs; }
+    public void setDurationMs(Long durationMs) { this.durationMs = durationMs; }
+    
+    public LocalDateTime getCompletedAt() { return completedAt; }
+    public void setCompletedAt(LocalDateTime completedAt) { this.completedAt = completedAt; }
+}
@@ -1,5 +1,6 @@
 package com.islandscholars.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -44,9 +45,11 @@ public class University {
     private LocalDateTime updatedAt;
     
     @OneToMany(mappedBy = "university", cascade = CascadeType.ALL)
+    @JsonIgnore
     private List<Student> students;
     
     @OneToMany(mappedBy = "university", cascade = CascadeType.ALL)
+    @JsonIgnore
     private List<Supervisor> supervisors;
     
     @PrePersist
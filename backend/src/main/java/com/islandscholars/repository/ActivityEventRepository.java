@@ -0,0 +1,13 @@
+package com.islandscholars.repository;
+
+import com.islandscholars.entity.ActivityEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface ActivityEventRepository extends JpaRepository<ActivityEvent, Long> {
+    List<ActivityEvent> findAllByOrderByIdDesc(Pageable pageable);
+    List<ActivityEvent> findByIdLessThanOrderByIdDesc(Long id, Pageable pageable);
+}
@@ -1,12 +1,20 @@
 package com.islandscholars.repository;
 
+import com.islandscholars.dto.AppliedInternship;
+import com.islandscholars.dto.ApplicationView;
+import com.islandscholars.dto.OwnerStatusCount;
+import com.islandscholars.dto.StatusCount;
+import com.islandscholars.dto.StudentAppliedInternship;
 import com.islandscholars.entity.Application;
 import com.islandscholars.entity.Student;
 import com.islandscholars.entity.Internship;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +25,7 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
     List<Application> findByInternship(Internship internship);
     List<Application> findByInternshipId(Long internshipId);
     List<Application> findByStatus(String status);
+    long countByStatus(String status);
     Optional<Application> findByStudentAndInternship(Student student, Internship internship);
     List<Application> findByInternshipOrganizationId(Long organizationId);
     List<Application> findByStudentUniversityId(Long universityId);
@@ -27,4 +36,50 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
     
     @Query("SELECT a FROM Application a WHERE a.internship.organization.id = :organizationId OR a.organization.id = :organizationId")
     List<Application> findAllApplicationsByOrganizationId(@Param("organizationId") Long organizationId);
-}
\ No newline at end of file
+    
+    @Query("SELECT i.id AS internshipId, i.field AS field FROM Application a JOIN a.internship i WHERE a.student.id = :studentId")
+    List<AppliedInternship> findAppliedInternships(@Param("studentId") Long studentId);
+    
+    @Query("SELECT a.student.id AS studentId, i.id AS internshipId, i.field AS field FROM Application a JOIN a.internship i")
+    List<StudentAppliedInternship> findAllAppliedInternships();
+    
+    @Query("SELECT LOWER(a.status) AS status, COUNT(a) AS count FROM Application a WHERE a.student.id = :studentId GROUP BY LOWER(a.status)")
+    List<StatusCount> countByStatusForStudent(@Param("studentId") Long studentId);
+    
+    @Query("SELECT a.student.id AS ownerId, LOWER(a.status) AS status, COUNT(a) AS count FROM Application a " +
+           "WHERE a.student.id IN :studentIds GROUP BY a.student.id, LOWER(a.status)")
+    List<OwnerStatusCount> countByStatusForStudents(@Param("studentIds") Collection<Long> studentIds);
+    
+    // List rows are projected straight into ApplicationView so serialization never walks the entity graph
+    String VIEW_SELECT = "SELECT new com.islandscholars.dto.ApplicationView(a.id, a.status, a.appliedAt, a.reviewedAt, a.coverLetter, " +
+           "a.whyInterested, a.relevantExperience, a.availability, a.additionalInfo, " +
+           "s.id, s.studentId, s.fieldOfStudy, u.id, u.email, u.firstName, u.lastName, un.id, un.name, " +
+           "i.id, i.title, i.location, i.duration, io.id, io.name, o.id, o.name) " +
+           "FROM Application a JOIN a.student s JOIN s.user u JOIN s.university un " +
+           "LEFT JOIN a.internship i LEFT JOIN i.organization io LEFT JOIN a.organization o ";
+    
+    @Query(VIEW_SELECT + "WHERE io.id = :organizationId ORDER BY a.appliedAt DESC, a.id DESC")
+    List<ApplicationView> findViewsByInternshipOrganizationId(@Param("organizationId") Long organizationId);
+    
+    @Query(VIEW_SELECT + "WHERE o.id = :organizationId AND i.id IS NULL ORDER BY a.appliedAt DESC, a.id DESC")
+    List<ApplicationView> findDirectViewsByOrganizationId(@Param("organizationId") Long organizationId);
+    
+    // Keyset pages ordered newest first; the cursor is the (appliedAt, id) of the last row already returned
+    String KEYSET_AFTER_CURSOR = "(a.appliedAt < :appliedAt OR (a.appliedAt = :appliedAt AND a.id < :id)) ORDER BY a.appliedAt DESC, a.id DESC";
+    
+    @Query(VIEW_SELECT + "WHERE " + KEYSET_AFTER_CURSOR)
+    List<ApplicationView> findPage(@Param("appliedAt") LocalDateTime appliedAt, @Param("id") Long id, Pageable pageable);
+    
+    @Query(VIEW_SELECT + "WHERE s.id = :studentId AND " + KEYSET_AFTER_CURSOR)
+    List<ApplicationView> findPageByStudentId(@Param("studentId") Long studentId, @Param("appliedAt") LocalDateTime appliedAt, @Param("id") Long id, Pageable pageable);
+    
+    @Query(VIEW_SELECT + "WHERE i.id = :internshipId AND " + KEYSET_AFTER_CURSOR)
+    List<ApplicationView> findPageByInternshipId(@Param("internshipId") Long internshipId, @Param("appliedAt") LocalDateTime appliedAt, @Param("id") Long id, Pageable pageable);
+    
+    @Query(VIEW_SELECT + "WHERE (io.id = :organizationId OR o.id = :organizationId) AND " + KEYSET_AFTER_CURSOR)
+    List<ApplicationView> findPageByOrganizationId(@Param("organizationId") Long organizationId, @Param("appliedAt") LocalDateTime appliedAt, @Param("id") Long id, Pageable pageable);
+    
+    @Query(VIEW_SELECT + "WHERE un.id = :universityId AND " + KEYSET_AFTER_CURSOR)
+    List<ApplicationView> findPageByUniversityId(@Param("universityId") Long universityId, @Param("appliedAt") LocalDateTime appliedAt, @Param("id") Long id, Pageable pageable);
+
+}
@@ -0,0 +1,63 @@
+package com.islandscholars.repository;
+
+import com.islandscholars.dto.DimensionCount;
+import com.islandscholars.entity.DailyRollup;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailyRollupRepository extends JpaRepository<DailyRollup, Long> {
+    
+    @Query("SELECT r.dimension AS dimension, SUM(r.count) AS count FROM DailyRollup r " +
+           "WHERE r.metric = :metric AND r.day >= :from AND r.day < :to GROUP BY r.dimension")
+    List<DimensionCount> sumByDimension(@Param("metric") String metric,
+                                        @Param("from") LocalDate from,
+                                        @Param("to") LocalDate to);
+    
+    @Query("SELECT r.dimension AS dimension, SUM(r.count) AS count FROM DailyRollup r " +
+           "WHERE r.metric = :metric AND r.day >= :from AND r.day < :to " +
+           "GROUP BY r.dimension ORDER BY SUM(r.count) DESC")
+    List<DimensionCount> findTopDimensions(@Param("metric") String metric,
+                                           @Param("from") LocalDate from,
+                                           @Param("to") LocalDate to,
+                                           Pageable pageable);
+    
+    @Modifying
+    @Query(value = "DELETE FROM daily_rollups", nativeQuery = true)
+    int deleteAllRows();
+    
+    @Modifying
+    @Query(value = "INSERT INTO daily_rollups (day, metric, dimension, count) " +
+                   "SELECT CAST(u.created_at AS DATE), 'registrations', u.role, COUNT(*) FROM users u " +
+                   "WHERE u.created_at IS NOT NULL GROUP BY CAST(u.created_at AS DATE), u.role", nativeQuery = true)
+    int backfillRegistrations();
+    
+    @Modifying
+    @Query(value = "INSERT INTO daily_rollups (day, metric, dimension, count) " +
+                   "SELECT CAST(a.applied_at AS DATE), 'applications', 'submitted', COUNT(*) FROM applications a " +
+                   "WHERE a.applied_at IS NOT NULL GROUP BY CAST(a.applied_at AS DATE)", nativeQuery = true)
+    int backfillSubmittedApplications();
+    
+    // Reviewed applications count once, under their current status on the day of their latest review;
+    // ReportingService.recordApplicationReviewed keeps the live rollups to the same rule
+    @Modifying
+    @Query(value = "INSERT INTO daily_rollups (day, metric, dimension, count) " +
+                   "SELECT CAST(a.reviewed_at AS DATE), 'applications', LOWER(a.status), COUNT(*) FROM applications a " +
+                   "WHERE a.reviewed_at IS NOT NULL AND LOWER(a.status) IN ('accepted', 'rejected') " +
+                   "GROUP BY CAST(a.reviewed_at AS DATE), LOWER(a.status)", nativeQuery = true)
+    int backfillReviewedApplications();
+    
+    @Modifying
+    @Query(value = "INSERT INTO daily_rollups (day, metric, dimension, count) " +
+                   "SELECT CAST(a.reviewed_at AS DATE), 'acceptances', CAST(s.university_id AS VARCHAR), COUNT(*) " +
+                   "FROM applications a JOIN students s ON s.id = a.student_id " +
+                   "WHERE a.reviewed_at IS NOT NULL AND LOWER(a.status) = 'accepted' " +
+                   "GROUP BY CAST(a.reviewed_at AS DATE), s.university_id", nativeQuery = true)
+    int backfillAcceptancesByUniversity();
+}
@@ -1,10 +1,21 @@
 package com.islandscholars.repository;
 
+import com.islandscholars.dto.FacetCount;
+import com.islandscholars.dto.InternshipDTO;
+import com.islandscholars.dto.InternshipSearchHit;
+import com.islandscholars.dto.SuggestedInternship;
 import com.islandscholars.entity.Internship;
 import com.islandscholars.entity.Organization;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface InternshipRepository extends JpaRepository<Internship, Long> {
@@ -14,4 +25,93 @@ public interface InternshipRepository extends JpaRepository<Internship, Long> {
     List<Internship> findByField(String field);
     List<Internship> findByLocation(String location);
     List<Internship> findByType(String type);
-}
\ No newline at end of file
+    long countByStatus(String status);
+    List<Internship> findByStatusAndStartDate(String status, LocalDate startDate);
+    
+    // Expires every active internship whose start date has passed in one statement on idx_internships_status_start_date
+    @Modifying
+    @Query("UPDATE Internship i SET i.status = 'expired', i.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE i.status = 'active' AND i.startDate < :today")
+    int expireStartedBefore(@Param("today") LocalDate today);
+    
+    // Fills InternshipDTO straight from a join so the catalog never materializes Organization entities
+    String CATALOG_FILTER =
+        "WHERE (:field IS NULL OR i.field = :field) " +
+        "AND (:location IS NULL OR i.location = :location) " +
+        "AND (:type IS NULL OR i.type = :type) " +
+        "AND (:status IS NULL OR i.status = :status) " +
+        "AND (:organizationId IS NULL OR o.id = :organizationId) " +
+        "AND (:startFrom IS NULL OR i.startDate >= :startFrom) " +
+        "AND (:startTo IS NULL OR i.startDate <= :startTo)";
+    
+    @Query(value = "SELECT new com.islandscholars.dto.InternshipDTO(i.id, i.title, i.description, i.location, i.duration, " +
+                   "i.field, i.type, i.spotsAvailable, i.startDate, i.status, o.name, i.requirements, i.responsibilities) " +
+                   "FROM Internship i JOIN i.organization o " + CATALOG_FILTER,
+           countQuery = "SELECT COUNT(i) FROM Internship i JOIN i.organization o " + CATALOG_FILTER)
+    Page<InternshipDTO> findCatalog(@Param("field") String field,
+                                    @Param("location") String location,
+                                    @Param("type") String type,
+                                    @Param("status") String status,
+                                    @Param("organizationId") Long organizationId,
+                                    @Param("startFrom") LocalDate startFrom,
+                                    @Param("startTo") LocalDate startTo,
+                                    Pageable pageable);
+    
+    @Query("SELECT new com.islandscholars.dto.InternshipDTO(i.id, i.title, i.description, i.location, i.duration, " +
+           "i.field, i.type, i.spotsAvailable, i.startDate, i.status, o.name, i.requirements, i.responsibilities) " +
+           "FROM Internship i JOIN i.organization o WHERE i.id = :id")
+    Optional<InternshipDTO> findCatalogEntry(@Param("id") Long id);
+    
+    @Query("SELECT new com.islandscholars.dto.SuggestedInternship(i.id, i.title, i.description, i.location, i.duration, " +
+           "i.field, i.type, i.spotsAvailable, i.startDate, i.status, i.requirements, i.responsibilities, i.createdAt, o.id, o.name) " +
+           "FROM Internship i JOIN i.organization o WHERE i.status = 'active' ORDER BY i.id")
+    List<SuggestedInternship> findSuggestionCandidates();
+    
+    // Facet counts for every dimension in one round trip. Each branch applies all filters except
+    // its own, so a facet lists the values the user can still switch to. Start dates are
+    // bucketed by month (yyyy-MM).
+    String FACET_FIELD = "(CAST(:field AS VARCHAR) IS NULL OR i.field = :field)";
+    String FACET_LOCATION = "(CAST(:location AS VARCHAR) IS NULL OR i.location = :location)";
+    String FACET_TYPE = "(CAST(:type AS VARCHAR) IS NULL OR i.type = :type)";
+    String FACET_STATUS = "(CAST(:status AS VARCHAR) IS NULL OR i.status = :status)";
+    String FACET_START = "(CAST(:startFrom AS DATE) IS NULL OR i.start_date >= CAST(:startFrom AS DATE)) " +
+        "AND (CAST(:startTo AS DATE) IS NULL OR i.start_date <= CAST(:startTo AS DATE))";
+    
+    @Query(value =
+        "SELECT 'field' AS facet, i.field AS value, COUNT(*) AS count FROM internships i " +
+        "WHERE " + FACET_LOCATION + " AND " + FACET_TYPE + " AND " + FACET_STATUS + " AND " + FACET_START + " GROUP BY i.field " +
+        "UNION ALL SELECT 'location', i.location, COUNT(*) FROM internships i " +
+        "WHERE " + FACET_FIELD + " AND " + FACET_TYPE + " AND " + FACET_STATUS + " AND " + FACET_START + " GROUP BY i.location " +
+        "UNION ALL SELECT 'type', i.type, COUNT(*) FROM internships i " +
+        "WHERE " + FACET_FIELD + " AND " + FACET_LOCATION + " AND " + FACET_STATUS + " AND " + FACET_START + " GROUP BY i.type " +
+        "UNION ALL SELECT 'status', i.status, COUNT(*) FROM internships i " +
+        "WHERE " + FACET_FIELD + " AND " + FACET_LOCATION + " AND " + FACET_TYPE + " AND " + FACET_START + " GROUP BY i.status " +
+        "UNION ALL SELECT 'startMonth', to_char(i.start_date, 'YYYY-MM'), COUNT(*) FROM internships i " +
+        "WHERE i.start_date IS NOT NULL AND " + FACET_FIELD + " AND " + FACET_LOCATION + " AND " + FACET_TYPE + " AND " + FACET_STATUS +
+        " GROUP BY to_char(i.start_date, 'YYYY-MM') " +
+        "ORDER BY facet, count DESC, value",
+        nativeQuery = true)
+    List<FacetCount> countFacets(@Param("field") String field,
+                                 @Param("location") String location,
+                                 @Param("type") String type,
+                                 @Param("status") String status,
+                                 @Param("startFrom") LocalDate startFrom,
+                                 @Param("startTo") LocalDate startTo);
+    
+    // Full-text matches against the generated search_vector column (see SearchIndexInitializer),
+    // ranked with title hits above description and requirement hits
+    String SEARCH_MATCH =
+        "FROM internships i JOIN organizations o ON o.id = i.organization_id, " +
+        "websearch_to_tsquery('english', :query) q " +
+        "WHERE i.search_vector @@ q AND (CAST(:status AS VARCHAR) IS NULL OR i.status = :status) ";
+    
+    @Query(value = "SELECT i.id AS id, i.title AS title, i.description AS description, i.location AS location, " +
+                   "i.duration AS duration, i.field AS field, i.type AS type, i.spots_available AS spotsAvailable, " +
+                   "i.start_date AS startDate, i.status AS status, o.name AS organizationName, " +
+                   "i.requirements AS requirements, i.responsibilities AS responsibilities, " +
+                   "CAST(ts_rank_cd(i.search_vector, q) AS DOUBLE PRECISION) AS rank " +
+                   SEARCH_MATCH + "ORDER BY rank DESC, i.id DESC",
+           countQuery = "SELECT COUNT(*) " + SEARCH_MATCH,
+           nativeQuery = true)
+    Page<InternshipSearchHit> search(@Param("query") String query, @Param("status") String status, Pageable pageable);
+}
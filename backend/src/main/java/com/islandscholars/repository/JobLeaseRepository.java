@@ -0,0 +1,52 @@
+package com.islandscholars.repository;
+
+import com.islandscholars.dto.JobLeaseStatus;
+import com.islandscholars.entity.JobLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+// All lease times come from the database clock so nodes with skewed clocks still agree
+@Repository
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+    
+    String LEASE_END = "LOCALTIMESTAMP + CAST(:leaseMs AS BIGINT) * INTERVAL '1 millisecond'";
+    
+    // Returns 1 when the lease was taken: the job has no row yet, or its current lease has expired
+    @Modifying
+    @Query(value = "INSERT INTO job_leases (job_name, locked_by, locked_at, locked_until, last_started_at, last_status) " +
+                   "VALUES (:jobName, :nodeId, LOCALTIMESTAMP, " + LEASE_END + ", LOCALTIMESTAMP, 'running') " +
+                   "ON CONFLICT (job_name) DO UPDATE SET locked_by = EXCLUDED.locked_by, locked_at = EXCLUDED.locked_at, " +
+                   "locked_until = EXCLUDED.locked_until, last_started_at = EXCLUDED.last_started_at, last_status = 'running' " +
+                   "WHERE job_leases.locked_until <= LOCALTIMESTAMP", nativeQuery = true)
+    int acquire(@Param("jobName") String jobName, @Param("nodeId") String nodeId, @Param("leaseMs") long leaseMs);
+    
+    // Returns 0 when the lease was lost, e.g. it expired and another node took it over
+    @Modifying
+    @Query(value = "UPDATE job_leases SET locked_until = " + LEASE_END + " " +
+                   "WHERE job_name = :jobName AND locked_by = :nodeId AND last_status = 'running' AND locked_until > LOCALTIMESTAMP", nativeQuery = true)
+    int renew(@Param("jobName") String jobName, @Param("nodeId") String nodeId, @Param("leaseMs") long leaseMs);
+    
+    // Records the run and keeps the lease until at least locked_at + minHoldMs, so nodes whose
+    // schedules fire a little later do not repeat a job that has just finished
+    @Modifying
+    @Query(value = "UPDATE job_leases SET " +
+                   "locked_until = GREATEST(LOCALTIMESTAMP, locked_at + CAST(:minHoldMs AS BIGINT) * INTERVAL '1 millisecond'), " +
+                   "last_finished_at = LOCALTIMESTAMP, last_duration_ms = :durationMs, last_status = :status, last_error = CAST(:error AS TEXT) " +
+                   "WHERE job_name = :jobName AND locked_by = :nodeId", nativeQuery = true)
+    int release(@Param("jobName") String jobName,
+                @Param("nodeId") String nodeId,
+                @Param("minHoldMs") long minHoldMs,
+                @Param("durationMs") long durationMs,
+                @Param("status") String status,
+                @Param("error") String error);
+    
+    @Query(value = "SELECT job_name AS jobName, locked_by AS lockedBy, locked_at AS lockedAt, locked_until AS lockedUntil, " +
+                   "locked_until > LOCALTIMESTAMP AS held, last_started_at AS lastStartedAt, last_finished_at AS lastFinishedAt, " +
+                   "last_duration_ms AS lastDurationMs, last_status AS lastStatus, last_error AS lastError " +
+                   "FROM job_leases ORDER BY job_name", nativeQuery = true)
+    List<JobLeaseStatus> findStatuses();
+}
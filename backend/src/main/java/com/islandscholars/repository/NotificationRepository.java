@@ -3,6 +3,9 @@ package com.islandscholars.repository;
 import com.islandscholars.entity.Notification;
 import com.islandscholars.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
@@ -14,4 +17,22 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     List<Notification> findByUserAndIsRead(User user, Boolean isRead);
     List<Notification> findByUserIdAndIsRead(Long userId, Boolean isRead);
     List<Notification> findByUserIdAndIsReadOrderByCreatedAtDesc(Long userId, Boolean isRead);
+    
+    // One statement per internship: every student without an application to it gets the notification,
+    // unless the reminder ledger already holds (user, internship, type, window). Ledger rows are claimed
+    // with ON CONFLICT DO NOTHING and only the claimed users are notified, so re-runs write nothing.
+    @Modifying
+    @Query(value = "WITH claimed AS (" +
+                   "INSERT INTO reminder_ledger (user_id, internship_id, kind, window_key, created_at) " +
+                   "SELECT s.user_id, :internshipId, :type, :windowKey, now() FROM students s " +
+                   "WHERE NOT EXISTS (SELECT 1 FROM applications a WHERE a.student_id = s.id AND a.internship_id = :internshipId) " +
+                   "ON CONFLICT (user_id, internship_id, kind, window_key) DO NOTHING RETURNING user_id) " +
+                   "INSERT INTO notifications (user_id, title, message, type, is_read, created_at) " +
+                   "SELECT user_id, :title, :message, :type, false, now() FROM claimed",
+           nativeQuery = true)
+    int insertForNonApplicants(@Param("internshipId") Long internshipId,
+                               @Param("windowKey") String windowKey,
+                               @Param("title") String title,
+                               @Param("message") String message,
+                               @Param("type") String type);
 }
\ No newline at end of file
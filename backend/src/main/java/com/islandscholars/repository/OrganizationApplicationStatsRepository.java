@@ -0,0 +1,80 @@
+package com.islandscholars.repository;
+
+import com.islandscholars.entity.OrganizationApplicationStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.Collection;
+
+@Repository
+public interface OrganizationApplicationStatsRepository extends JpaRepository<OrganizationApplicationStats, Long> {
+    
+    @Modifying
+    @Query(value = "INSERT INTO organization_application_stats (organization_id, received, accepted, rejected, pending, updated_at) " +
+                   "VALUES (:organizationId, 1, 0, 0, 1, now()) " +
+                   "ON CONFLICT (organization_id) DO UPDATE SET " +
+                   "received = organization_application_stats.received + 1, " +
+                   "pending = organization_application_stats.pending + 1, " +
+                   "updated_at = now()", nativeQuery = true)
+    int incrementReceived(@Param("organizationId") Long organizationId);
+    
+    @Modifying
+    @Query("UPDATE OrganizationApplicationStats s SET " +
+           "s.received = s.received + :receivedDelta, " +
+           "s.accepted = s.accepted + :acceptedDelta, " +
+           "s.rejected = s.rejected + :rejectedDelta, " +
+           "s.pending = s.pending + :pendingDelta, " +
+           "s.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE s.organizationId = :organizationId")
+    int applyDelta(@Param("organizationId") Long organizationId,
+                   @Param("receivedDelta") long receivedDelta,
+                   @Param("acceptedDelta") long acceptedDelta,
+                   @Param("rejectedDelta") long rejectedDelta,
+                   @Param("pendingDelta") long pendingDelta);
+    
+    String REBUILD_SELECT =
+        "INSERT INTO organization_application_stats (organization_id, received, accepted, rejected, pending, updated_at) " +
+        "SELECT o.id, COUNT(x.status), " +
+        "COUNT(*) FILTER (WHERE x.status = 'accepted'), " +
+        "COUNT(*) FILTER (WHERE x.status = 'rejected'), " +
+        "COUNT(*) FILTER (WHERE x.status = 'pending'), now() " +
+        "FROM organizations o LEFT JOIN (" +
+        "  SELECT COALESCE(i.organization_id, a.organization_id) AS organization_id, LOWER(a.status) AS status " +
+        "  FROM applications a LEFT JOIN internships i ON i.id = a.internship_id" +
+        ") x ON x.organization_id = o.id ";
+    
+    String REBUILD_UPSERT =
+        "GROUP BY o.id " +
+        "ON CONFLICT (organization_id) DO UPDATE SET " +
+        "received = EXCLUDED.received, accepted = EXCLUDED.accepted, " +
+        "rejected = EXCLUDED.rejected, pending = EXCLUDED.pending, updated_at = EXCLUDED.updated_at";
+    
+    // Seeding never overwrites an existing row, so it cannot lose increments made by a concurrent
+    // transaction that created the row first
+    String SEED_INSERT =
+        "GROUP BY o.id " +
+        "ON CONFLICT (organization_id) DO NOTHING";
+    
+    @Modifying
+    @Query(value = REBUILD_SELECT +
+                   "WHERE (CAST(:organizationId AS BIGINT) IS NULL OR o.id = CAST(:organizationId AS BIGINT)) " +
+                   REBUILD_UPSERT, nativeQuery = true)
+    int rebuild(@Param("organizationId") Long organizationId);
+    
+    @Modifying
+    @Query(value = REBUILD_SELECT + "WHERE o.id IN (:organizationIds) " + SEED_INSERT, nativeQuery = true)
+    int seedFor(@Param("organizationIds") Collection<Long> organizationIds);
+    
+    @Modifying
+    @Query(value = REBUILD_SELECT +
+                   "WHERE NOT EXISTS (SELECT 1 FROM organization_application_stats s WHERE s.organization_id = o.id) " +
+                   SEED_INSERT, nativeQuery = true)
+    int seedMissing();
+    
+    @Modifying
+    @Query(value = "DELETE FROM organization_application_stats s " +
+                   "WHERE NOT EXISTS (SELECT 1 FROM organizations o WHERE o.id = s.organization_id)", nativeQuery = true)
+    int deleteOrphans();
+}
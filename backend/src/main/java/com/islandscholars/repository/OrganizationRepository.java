@@ -4,8 +4,12 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.islandscholars.dto.NamedRef;
+import com.islandscholars.dto.OrganizationSummaryDTO;
 import com.islandscholars.entity.Organization;
 
 @Repository
@@ -15,4 +19,19 @@ public interface OrganizationRepository extends JpaRepository<Organization, Long
     List<Organization> findByLocation(String location);
     boolean existsByEmail(String email);
     long countByName(String name);
+    
+    @Query("SELECT new com.islandscholars.dto.NamedRef(o.id, o.name) FROM Organization o")
+    List<NamedRef> findAllNames();
+    
+    String SUMMARY_SELECT =
+        "SELECT new com.islandscholars.dto.OrganizationSummaryDTO(o.id, o.name, o.industry, o.location, " +
+        "o.description, o.website, o.foundedYear, " +
+        "(SELECT COUNT(i) FROM Internship i WHERE i.organization = o AND i.status = 'active')) " +
+        "FROM Organization o ";
+    
+    @Query(SUMMARY_SELECT + "ORDER BY o.name")
+    List<OrganizationSummaryDTO> findAllSummaries();
+    
+    @Query(SUMMARY_SELECT + "WHERE o.industry = :industry ORDER BY o.name")
+    List<OrganizationSummaryDTO> findSummariesByIndustry(@Param("industry") String industry);
 }
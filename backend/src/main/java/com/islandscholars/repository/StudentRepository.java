@@ -1,9 +1,16 @@
 package com.islandscholars.repository;
 
+import com.islandscholars.dto.StudentSuggestionProfile;
+import com.islandscholars.dto.StudentView;
+import com.islandscholars.dto.UniversityPlacement;
 import com.islandscholars.entity.Student;
 import com.islandscholars.entity.University;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.Optional;
 import java.util.List;
 
@@ -14,4 +21,42 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
     List<Student> findByUniversityId(Long universityId);
     Optional<Student> findByStudentId(String studentId);
     boolean existsByStudentId(String studentId);
-}
\ No newline at end of file
+    
+    String VIEW_SELECT = "SELECT new com.islandscholars.dto.StudentView(s.id, s.studentId, s.fieldOfStudy, s.yearOfStudy, " +
+           "s.address, s.bio, s.skills, s.interests, u.id, u.email, u.firstName, u.lastName, u.phoneNumber, un.id, un.name, " +
+           "sv.id, sv.department, svu.id, svu.firstName, svu.lastName, svu.email) " +
+           "FROM Student s JOIN s.user u JOIN s.university un LEFT JOIN s.supervisor sv LEFT JOIN sv.user svu ";
+    
+    @Query(VIEW_SELECT + "ORDER BY s.id")
+    List<StudentView> findAllViews();
+    
+    @Query(VIEW_SELECT + "WHERE un.id = :universityId ORDER BY s.id")
+    List<StudentView> findViewsByUniversityId(@Param("universityId") Long universityId);
+    
+    @Query(VIEW_SELECT + "WHERE un.id = :universityId AND EXISTS " +
+           "(SELECT 1 FROM Application a WHERE a.student = s AND LOWER(a.status) = 'accepted') ORDER BY s.id")
+    List<StudentView> findPlacedViewsByUniversityId(@Param("universityId") Long universityId);
+    
+    @Query("SELECT s.id AS studentId, u.id AS userId, s.fieldOfStudy AS fieldOfStudy, un.location AS universityLocation, " +
+           "s.skills AS skills, s.interests AS interests, COALESCE(s.suggestionRevision, 0) AS suggestionRevision " +
+           "FROM Student s JOIN s.user u LEFT JOIN s.university un")
+    List<StudentSuggestionProfile> findSuggestionProfiles();
+    
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE students SET suggestion_revision = COALESCE(suggestion_revision, 0) + 1 WHERE id = :studentId",
+           nativeQuery = true)
+    int bumpSuggestionRevision(@Param("studentId") Long studentId);
+    
+    String PLACEMENT_ROLLUP_SELECT =
+        "SELECT s.university_id AS universityId, COUNT(*) AS totalStudents, " +
+        "COUNT(*) FILTER (WHERE EXISTS (SELECT 1 FROM applications a " +
+        "WHERE a.student_id = s.id AND LOWER(a.status) = 'accepted')) AS placedStudents, " +
+        "COUNT(s.supervisor_id) AS supervisedStudents FROM students s ";
+    
+    @Query(value = PLACEMENT_ROLLUP_SELECT + "WHERE s.university_id = :universityId GROUP BY s.university_id", nativeQuery = true)
+    Optional<UniversityPlacement> findPlacementByUniversityId(@Param("universityId") Long universityId);
+    
+    @Query(value = PLACEMENT_ROLLUP_SELECT + "GROUP BY s.university_id", nativeQuery = true)
+    List<UniversityPlacement> findPlacementRollup();
+}
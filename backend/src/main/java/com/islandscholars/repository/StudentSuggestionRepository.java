@@ -0,0 +1,26 @@
+package com.islandscholars.repository;
+
+import com.islandscholars.dto.SuggestedInternship;
+import com.islandscholars.entity.StudentSuggestion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface StudentSuggestionRepository extends JpaRepository<StudentSuggestion, Long> {
+    
+    // Rows are only returned while they are still valid: the latest precompute run was made against
+    // the given catalog version, and the student has not changed since the rows were computed
+    @Query("SELECT new com.islandscholars.dto.SuggestedInternship(i.id, i.title, i.description, i.location, i.duration, " +
+           "i.field, i.type, i.spotsAvailable, i.startDate, i.status, i.requirements, i.responsibilities, i.createdAt, o.id, o.name) " +
+           "FROM StudentSuggestion ss JOIN Student s ON s.id = ss.studentId " +
+           "JOIN Internship i ON i.id = ss.internshipId JOIN i.organization o " +
+           "WHERE ss.studentId = :studentId AND i.status = 'active' " +
+           "AND ss.studentRevision = COALESCE(s.suggestionRevision, 0) " +
+           "AND :version = (SELECT r.catalogVersion FROM SuggestionPrecomputeRun r " +
+           "WHERE r.id = (SELECT MAX(latest.id) FROM SuggestionPrecomputeRun latest)) " +
+           "ORDER BY ss.position")
+    List<SuggestedInternship> findPrecomputed(@Param("studentId") Long studentId, @Param("version") String version);
+}
@@ -0,0 +1,11 @@
+package com.islandscholars.repository;
+
+import com.islandscholars.entity.SuggestionPrecomputeRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.Optional;
+
+@Repository
+public interface SuggestionPrecomputeRunRepository extends JpaRepository<SuggestionPrecomputeRun, Long> {
+    Optional<SuggestionPrecomputeRun> findTopByOrderByIdDesc();
+}
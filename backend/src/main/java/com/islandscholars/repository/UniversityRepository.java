@@ -1,14 +1,21 @@
 package com.islandscholars.repository;
 
+import com.islandscholars.dto.NamedRef;
 import com.islandscholars.entity.University;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UniversityRepository extends JpaRepository<University, Long> {
     Optional<University> findByEmail(String email);
     Optional<University> findByName(String name);
+    Optional<University> findFirstByNameIgnoreCaseOrderByIdAsc(String name);
     boolean existsByEmail(String email);
     boolean existsByName(String name);
+    
+    @Query("SELECT new com.islandscholars.dto.NamedRef(u.id, u.name) FROM University u")
+    List<NamedRef> findAllNames();
 }
\ No newline at end of file
@@ -1,8 +1,10 @@
 package com.islandscholars.repository;
 
+import com.islandscholars.dto.UserView;
 import com.islandscholars.entity.User;
 import com.islandscholars.entity.UserRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.Optional;
 import java.util.List;
@@ -12,4 +14,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     List<User> findByRole(UserRole role);
     boolean existsByEmail(String email);
+    
+    @Query("SELECT new com.islandscholars.dto.UserView(u.id, u.email, u.firstName, u.lastName, u.phoneNumber, u.role, u.createdAt) " +
+           "FROM User u ORDER BY u.id")
+    List<UserView> findAllViews();
 }
\ No newline at end of file
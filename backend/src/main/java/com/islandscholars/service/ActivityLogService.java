@@ -0,0 +1,198 @@
+package com.islandscholars.service;
+
+import com.islandscholars.entity.ActivityEvent;
+import com.islandscholars.repository.ActivityEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+@Service
+public class ActivityLogService {
+    
+    private static final Logger log = LoggerFactory.getLogger(ActivityLogService.class);
+    
+    // Ids are assigned before the insert, so a retried batch that partly landed is skipped row by row
+    private static final String INSERT_SQL =
+        "INSERT INTO activity_events (id, type, description, user_id, reference_id, created_at) VALUES (?, ?, ?, ?, ?, ?) " +
+        "ON CONFLICT (id) DO NOTHING";
+    
+    // Ids come from the identity column's sequence in blocks, fetched off the request thread
+    private static final String NEXT_IDS_SQL =
+        "SELECT nextval(pg_get_serial_sequence('activity_events', 'id')) FROM generate_series(1, ?)";
+    
+    @Autowired
+    private ActivityEventRepository activityEventRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Value("${app.activity.buffer-size:100}")
+    private int bufferSize;
+    
+    @Value("${app.activity.flush-batch-size:500}")
+    private int flushBatchSize;
+    
+    @Value("${app.activity.queue-capacity:10000}")
+    private int queueCapacity;
+    
+    @Value("${app.activity.id-block-size:200}")
+    private int idBlockSize;
+    
+    private BlockingQueue<ActivityEvent> pendingWrites;
+    
+    // Ids reserved for events not yet published. Publishing takes one without touching the database;
+    // when the block runs dry the event is buffered without an id and flush() assigns one.
+    private final Queue<Long> reservedIds = new ConcurrentLinkedQueue<>();
+    
+    private final Deque<ActivityEvent> recentEvents = new ArrayDeque<>();
+    
+    @PostConstruct
+    public void init() {
+        pendingWrites = new LinkedBlockingQueue<>(queueCapacity);
+    }
+    
+    public void record(String type, String description, Long userId, Long referenceId) {
+        ActivityEvent event = new ActivityEvent(type, description, userId, referenceId);
+        
+        AfterCommit.run(() -> publish(event));
+    }
+    
+    public synchronized List<ActivityEvent> getRecentEvents(int limit) {
+        List<ActivityEvent> events = new ArrayList<>(Math.min(limit, recentEvents.size()));
+        for (ActivityEvent event : recentEvents) {
+            if (events.size() >= limit) {
+                break;
+            }
+            events.add(event);
+        }
+        return events;
+    }
+    
+    public List<ActivityEvent> getHistory(Long beforeId, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        return beforeId == null
+            ? activityEventRepository.findAllByOrderByIdDesc(page)
+            : activityEventRepository.findByIdLessThanOrderByIdDesc(beforeId, page);
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRecentEvents() {
+        List<ActivityEvent> latest = activityEventRepository.findAllByOrderByIdDesc(PageRequest.of(0, bufferSize));
+        synchronized (this) {
+            for (int i = latest.size() - 1; i >= 0; i--) {
+                remember(latest.get(i));
+            }
+        }
+        reserveIds();
+    }
+    
+    @Scheduled(fixedDelayString = "${app.activity.flush-interval-ms:2000}")
+    public void flush() {
+        List<ActivityEvent> batch = new ArrayList<>(flushBatchSize);
+        while (pendingWrites.drainTo(batch, flushBatchSize) > 0) {
+            try {
+                assignMissingIds(batch);
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, event) -> {
+                    ps.setLong(1, event.getId());
+                    ps.setString(2, event.getType());
+                    ps.setString(3, event.getDescription());
+                    setNullableLong(ps, 4, event.getUserId());
+                    setNullableLong(ps, 5, event.getReferenceId());
+                    ps.setTimestamp(6, Timestamp.valueOf(event.getCreatedAt()));
+                });
+            } catch (RuntimeException e) {
+                log.error("Failed to write {} activity events, will retry on next flush", batch.size(), e);
+                requeue(batch);
+                return;
+            }
+            batch.clear();
+        }
+        if (reservedIds.size() < idBlockSize / 2) {
+            reserveIds();
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+    
+    private void publish(ActivityEvent event) {
+        synchronized (this) {
+            event.setId(reservedIds.poll());
+            remember(event);
+        }
+        if (!pendingWrites.offer(event)) {
+            log.warn("Activity log queue is full, dropping event: {}", event.getDescription());
+        }
+    }
+    
+    private void reserveIds() {
+        try {
+            reservedIds.addAll(jdbcTemplate.queryForList(NEXT_IDS_SQL, Long.class, idBlockSize));
+        } catch (RuntimeException e) {
+            log.warn("Failed to reserve activity event ids, flush will assign them instead", e);
+        }
+    }
+    
+    // Events published while no reserved id was left get theirs here, in publication order
+    private void assignMissingIds(List<ActivityEvent> batch) {
+        int missing = (int) batch.stream().filter(event -> event.getId() == null).count();
+        if (missing == 0) {
+            return;
+        }
+        List<Long> ids = jdbcTemplate.queryForList(NEXT_IDS_SQL, Long.class, missing);
+        synchronized (this) {
+            int next = 0;
+            for (ActivityEvent event : batch) {
+                if (event.getId() == null) {
+                    event.setId(ids.get(next++));
+                }
+            }
+        }
+    }
+    
+    private void requeue(List<ActivityEvent> batch) {
+        for (ActivityEvent event : batch) {
+            if (!pendingWrites.offer(event)) {
+                log.warn("Activity log queue is full, dropping event: {}", event.getDescription());
+            }
+        }
+    }
+    
+    private void remember(ActivityEvent event) {
+        recentEvents.addFirst(event);
+        while (recentEvents.size() > bufferSize) {
+            recentEvents.removeLast();
+        }
+    }
+    
+    private static void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+}
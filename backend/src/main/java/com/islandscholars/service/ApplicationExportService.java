@@ -0,0 +1,138 @@
+package com.islandscholars.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class ApplicationExportService {
+    
+    public static final List<String> FORMATS = List.of("csv", "ndjson");
+    
+    private static final String[] COLUMNS = {
+        "applicationId", "status", "appliedAt", "reviewedAt", "studentId", "studentNumber",
+        "studentName", "studentEmail", "university", "internshipId", "internshipTitle", "organization"
+    };
+    
+    private static final String SELECT_SQL =
+        "SELECT a.id, a.status, a.applied_at, a.reviewed_at, s.id, s.student_id, " +
+        "u.first_name || ' ' || u.last_name, u.email, un.name, i.id, i.title, COALESCE(io.name, o.name) " +
+        "FROM applications a " +
+        "JOIN students s ON s.id = a.student_id " +
+        "JOIN users u ON u.id = s.user_id " +
+        "JOIN universities un ON un.id = s.university_id " +
+        "LEFT JOIN internships i ON i.id = a.internship_id " +
+        "LEFT JOIN organizations io ON io.id = i.organization_id " +
+        "LEFT JOIN organizations o ON o.id = a.organization_id ";
+    
+    private static final String ORGANIZATION_SQL = SELECT_SQL + "WHERE io.id = ? OR a.organization_id = ? ORDER BY a.id";
+    
+    private static final String UNIVERSITY_SQL = SELECT_SQL + "WHERE s.university_id = ? ORDER BY a.id";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Value("${app.export.fetch-size:1000}")
+    private int fetchSize;
+    
+    // The PostgreSQL driver only streams with a cursor when autocommit is off, hence the transaction
+    @Transactional(readOnly = true)
+    public void exportOrganizationApplications(Long organizationId, String format, Writer writer) {
+        export(ORGANIZATION_SQL, new Object[] { organizationId, organizationId }, format, writer);
+    }
+    
+    @Transactional(readOnly = true)
+    public void exportUniversityApplications(Long universityId, String format, Writer writer) {
+        export(UNIVERSITY_SQL, new Object[] { universityId }, format, writer);
+    }
+    
+    private void export(String sql, Object[] args, String format, Writer writer) {
+        boolean csv = "csv".equals(format);
+        
+        try {
+            if (csv) {
+                writer.write(String.join(",", COLUMNS));
+                writer.write('\n');
+            }
+            
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                for (int i = 0; i < args.length; i++) {
+                    statement.setObject(i + 1, args[i]);
+                }
+                return statement;
+            }, resultSet -> {
+                try {
+                    if (csv) {
+                        writeCsvRow(resultSet, writer);
+                    } else {
+                        writeJsonRow(resultSet, writer);
+                    }
+                    if (resultSet.getRow() % fetchSize == 0) {
+                        writer.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private void writeCsvRow(ResultSet resultSet, Writer writer) throws SQLException, IOException {
+        for (int i = 0; i < COLUMNS.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(readValue(resultSet, i + 1)));
+        }
+        writer.write('\n');
+    }
+    
+    private void writeJsonRow(ResultSet resultSet, Writer writer) throws SQLException, IOException {
+        Map<String, String> row = new LinkedHashMap<>();
+        for (int i = 0; i < COLUMNS.length; i++) {
+            row.put(COLUMNS[i], readValue(resultSet, i + 1));
+        }
+        writer.write(objectMapper.writeValueAsString(row));
+        writer.write('\n');
+    }
+    
+    private String readValue(ResultSet resultSet, int column) throws SQLException {
+        Object value = resultSet.getObject(column);
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime().toString();
+        }
+        return value != null ? value.toString() : null;
+    }
+    
+    private String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+}
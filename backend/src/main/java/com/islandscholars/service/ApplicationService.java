@@ -1,15 +1,23 @@
 package com.islandscholars.service;
 
+import com.islandscholars.dto.ApplicationCursor;
+import com.islandscholars.dto.ApplicationView;
+import com.islandscholars.dto.CursorPage;
 import com.islandscholars.entity.Application;
 import com.islandscholars.entity.Student;
 import com.islandscholars.entity.Internship;
 import com.islandscholars.entity.Organization;
+import com.islandscholars.entity.User;
 import com.islandscholars.repository.ApplicationRepository;
 import com.islandscholars.repository.StudentRepository;
 import com.islandscholars.repository.InternshipRepository;
 import com.islandscholars.repository.OrganizationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -33,38 +41,62 @@ public class ApplicationService {
     @Autowired
     private AutomationService automationService;
     
-    public List<Application> getAllApplications() {
-        return applicationRepository.findAll();
+    @Autowired
+    private OrganizationStatsService organizationStatsService;
+    
+    @Autowired
+    private ActivityLogService activityLogService;
+    
+    @Autowired
+    private ReportingService reportingService;
+    
+    @Autowired
+    private InternshipSuggestionService suggestionService;
+    
+    @Value("${app.pagination.default-page-size:50}")
+    private int defaultPageSize;
+    
+    @Value("${app.pagination.max-page-size:200}")
+    private int maxPageSize;
+    
+    public CursorPage<ApplicationView> getAllApplications(String cursor, Integer limit) {
+        return page(cursor, limit, (appliedAt, id, pageable) ->
+            applicationRepository.findPage(appliedAt, id, pageable));
     }
     
     public Optional<Application> getApplicationById(Long id) {
         return applicationRepository.findById(id);
     }
     
-    public List<Application> getApplicationsByStudent(Long studentId) {
-        return applicationRepository.findByStudentId(studentId);
+    public CursorPage<ApplicationView> getApplicationsByStudent(Long studentId, String cursor, Integer limit) {
+        return page(cursor, limit, (appliedAt, id, pageable) ->
+            applicationRepository.findPageByStudentId(studentId, appliedAt, id, pageable));
     }
     
-    public List<Application> getApplicationsByInternship(Long internshipId) {
-        return applicationRepository.findByInternshipId(internshipId);
+    public CursorPage<ApplicationView> getApplicationsByInternship(Long internshipId, String cursor, Integer limit) {
+        return page(cursor, limit, (appliedAt, id, pageable) ->
+            applicationRepository.findPageByInternshipId(internshipId, appliedAt, id, pageable));
     }
     
-    public List<Application> getApplicationsByOrganization(Long organizationId) {
-        return applicationRepository.findByInternshipOrganizationId(organizationId);
+    public List<ApplicationView> getApplicationsByOrganization(Long organizationId) {
+        return applicationRepository.findViewsByInternshipOrganizationId(organizationId);
     }
     
-    public List<Application> getDirectApplicationsByOrganization(Long organizationId) {
-        return applicationRepository.findDirectApplicationsByOrganizationId(organizationId);
+    public List<ApplicationView> getDirectApplicationsByOrganization(Long organizationId) {
+        return applicationRepository.findDirectViewsByOrganizationId(organizationId);
     }
     
-    public List<Application> getAllApplicationsByOrganization(Long organizationId) {
-        return applicationRepository.findAllApplicationsByOrganizationId(organizationId);
+    public CursorPage<ApplicationView> getAllApplicationsByOrganization(Long organizationId, String cursor, Integer limit) {
+        return page(cursor, limit, (appliedAt, id, pageable) ->
+            applicationRepository.findPageByOrganizationId(organizationId, appliedAt, id, pageable));
     }
     
-    public List<Application> getApplicationsByUniversity(Long universityId) {
-        return applicationRepository.findByStudentUniversityId(universityId);
+    public CursorPage<ApplicationView> getApplicationsByUniversity(Long universityId, String cursor, Integer limit) {
+        return page(cursor, limit, (appliedAt, id, pageable) ->
+            applicationRepository.findPageByUniversityId(universityId, appliedAt, id, pageable));
     }
     
+    @Transactional
     public Application createApplication(Application application) {
         Student student = studentRepository.findById(application.getStudent().getId())
             .orElseThrow(() -> new RuntimeException("Student not found"));
@@ -91,6 +123,10 @@ public class ApplicationService {
         
         application.setStatus("pending");
         Application savedApplication = applicationRepository.save(application);
+        organizationStatsService.recordNewApplication(savedApplication);
+        recordActivity(savedApplication, "application_submitted", "Application submitted by ");
+        reportingService.recordApplicationSubmitted();
+        suggestionService.invalidate(savedApplication.getStudent());
         
         // Trigger automation for new application
         automationService.processNewApplication(savedApplication);
@@ -98,6 +134,7 @@ public class ApplicationService {
         return savedApplication;
     }
     
+    @Transactional
     public Application createApplicationFromMap(Map<String, Object> applicationData) {
         Application application = new Application();
         
@@ -174,6 +211,10 @@ public class ApplicationService {
         }
         
         Application savedApplication = applicationRepository.save(application);
+        organizationStatsService.recordNewApplication(savedApplication);
+        recordActivity(savedApplication, "application_submitted", "Application submitted by ");
+        reportingService.recordApplicationSubmitted();
+        suggestionService.invalidate(savedApplication.getStudent());
         
         // Trigger automation for new application
         automationService.processNewApplication(savedApplication);
@@ -181,14 +222,24 @@ public class ApplicationService {
         return savedApplication;
     }
     
+    @Transactional
     public Application acceptApplication(Long id) {
         Application application = applicationRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Application not found"));
         
-        application.setStatus("accepted");
-        application.setReviewedAt(LocalDateTime.now());
+        String previousStatus = application.getStatus();
+        LocalDateTime previousReviewedAt = application.getReviewedAt();
+        // Repeating the same decision keeps the original review date, which the rollups count by
+        if (!"accepted".equalsIgnoreCase(previousStatus)) {
+            application.setStatus("accepted");
+            application.setReviewedAt(LocalDateTime.now());
+        }
         
         Application savedApplication = applicationRepository.save(application);
+        organizationStatsService.recordStatusChange(savedApplication, previousStatus);
+        recordActivity(savedApplication, "application_accepted", "Application accepted for ");
+        reportingService.recordApplicationReviewed("accepted", previousStatus, previousReviewedAt,
+            savedApplication.getStudent().getUniversity().getId());
         
         // Trigger automation for status update
         automationService.processApplicationStatusUpdate(savedApplication, "accepted");
@@ -196,14 +247,24 @@ public class ApplicationService {
         return savedApplication;
     }
     
+    @Transactional
     public Application rejectApplication(Long id) {
         Application application = applicationRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Application not found"));
         
-        application.setStatus("rejected");
-        application.setReviewedAt(LocalDateTime.now());
+        String previousStatus = application.getStatus();
+        LocalDateTime previousReviewedAt = application.getReviewedAt();
+        // Repeating the same decision keeps the original review date, which the rollups count by
+        if (!"rejected".equalsIgnoreCase(previousStatus)) {
+            application.setStatus("rejected");
+            application.setReviewedAt(LocalDateTime.now());
+        }
         
         Application savedApplication = applicationRepository.save(application);
+        organizationStatsService.recordStatusChange(savedApplication, previousStatus);
+        recordActivity(savedApplication, "application_rejected", "Application rejected for ");
+        reportingService.recordApplicationReviewed("rejected", previousStatus, previousReviewedAt,
+            savedApplication.getStudent().getUniversity().getId());
         
         // Trigger automation for status update
         automationService.processApplicationStatusUpdate(savedApplication, "rejected");
@@ -211,7 +272,38 @@ public class ApplicationService {
         return savedApplication;
     }
     
+    @Transactional
     public void deleteApplication(Long id) {
-        applicationRepository.deleteById(id);
+        applicationRepository.findById(id).ifPresent(application -> {
+            applicationRepository.delete(application);
+            organizationStatsService.recordDeletion(application);
+            suggestionService.invalidate(application.getStudent());
+        });
+    }
+    
+    private CursorPage<ApplicationView> page(String cursor, Integer limit, KeysetQuery query) {
+        ApplicationCursor position = ApplicationCursor.decode(cursor);
+        int pageSize = limit == null ? defaultPageSize : Math.min(Math.max(1, limit), maxPageSize);
+        
+        // Fetch one extra row to learn whether another page exists without a count query
+        List<ApplicationView> rows = query.fetch(position.getAppliedAt(), position.getId(), PageRequest.of(0, pageSize + 1));
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null);
+        }
+        
+        List<ApplicationView> items = rows.subList(0, pageSize);
+        ApplicationView last = items.get(pageSize - 1);
+        return new CursorPage<>(items, new ApplicationCursor(last.getAppliedAt(), last.getId()).encode());
+    }
+    
+    private void recordActivity(Application application, String type, String descriptionPrefix) {
+        User user = application.getStudent().getUser();
+        activityLogService.record(type, descriptionPrefix + user.getFirstName() + " " + user.getLastName(),
+            user.getId(), application.getId());
+    }
+    
+    @FunctionalInterface
+    private interface KeysetQuery {
+        List<ApplicationView> fetch(LocalDateTime appliedAt, Long id, Pageable pageable);
     }
 }
\ No newline at end of file
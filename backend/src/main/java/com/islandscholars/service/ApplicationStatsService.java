@@ -0,0 +1,68 @@
+package com.islandscholars.service;
+
+import com.islandscholars.dto.OwnerStatusCount;
+import com.islandscholars.dto.StatusCount;
+import com.islandscholars.repository.ApplicationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class ApplicationStatsService {
+    
+    @Autowired
+    private ApplicationRepository applicationRepository;
+    
+    public Map<String, Object> getStudentStats(Long studentId) {
+        return toStudentStats(applicationRepository.countByStatusForStudent(studentId));
+    }
+    
+    public Map<Long, Map<String, Object>> getStudentStats(Collection<Long> studentIds) {
+        if (studentIds.isEmpty()) {
+            return Map.of();
+        }
+        
+        Map<Long, List<StatusCount>> countsByStudent = new HashMap<>();
+        for (OwnerStatusCount count : applicationRepository.countByStatusForStudents(studentIds)) {
+            countsByStudent.computeIfAbsent(count.getOwnerId(), id -> new ArrayList<>()).add(count);
+        }
+        
+        Map<Long, Map<String, Object>> stats = new LinkedHashMap<>();
+        for (Long studentId : studentIds) {
+            stats.put(studentId, toStudentStats(countsByStudent.getOrDefault(studentId, List.of())));
+        }
+        return stats;
+    }
+    
+    private Map<String, Object> toStudentStats(List<StatusCount> counts) {
+        long total = 0;
+        long accepted = 0;
+        long rejected = 0;
+        long pending = 0;
+        
+        // Statuses are grouped case-insensitively by the query, so a plain switch is enough here
+        for (StatusCount count : counts) {
+            long value = count.getCount();
+            total += value;
+            switch (count.getStatus()) {
+                case "accepted" -> accepted = value;
+                case "rejected" -> rejected = value;
+                case "pending" -> pending = value;
+                default -> { }
+            }
+        }
+        
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("totalApplications", total);
+        stats.put("acceptedApplications", accepted);
+        stats.put("rejectedApplications", rejected);
+        stats.put("pendingApplications", pending);
+        stats.put("successRate", total > 0 ? (accepted * 100.0 / total) : 0);
+        return stats;
+    }
+}
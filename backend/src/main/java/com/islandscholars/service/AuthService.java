@@ -31,6 +31,15 @@ public class AuthService {
     @Autowired
     private NotificationService notificationService;
     
+    @Autowired
+    private ActivityLogService activityLogService;
+    
+    @Autowired
+    private ReportingService reportingService;
+    
+    @Autowired
+    private CollectionVersionService collectionVersions;
+    
     public UserResponse login(LoginRequest request) {
         User user = userRepository.findByEmail(request.getEmail())
             .orElseThrow(() -> new RuntimeException("Invalid email or password"));
@@ -95,6 +104,7 @@ public class AuthService {
         }
         
         user = userRepository.save(user);
+        reportingService.recordRegistration(role);
         
         UserResponse response = new UserResponse(
             user.getId(),
@@ -109,6 +119,7 @@ public class AuthService {
         if (role == UserRole.STUDENT) {
             Student student = createStudentProfile(user, request);
             response.setUniversityId(student.getUniversity().getId());
+            activityLogService.record("user_registered", "New student registration: " + request.getName(), user.getId(), student.getId());
             
             // Send welcome notification
             notificationService.createNotification(user, "Welcome to Island Scholars!", 
@@ -116,6 +127,7 @@ public class AuthService {
         } else if (role == UserRole.ORGANIZATION) {
             Organization organization = createOrganizationProfile(user, request);
             response.setOrganizationId(organization.getId());
+            activityLogService.record("user_registered", "New organization registered: " + organization.getName(), user.getId(), organization.getId());
             
             // Send welcome notification
             notificationService.createNotification(user, "Organization Registered!", 
@@ -123,6 +135,7 @@ public class AuthService {
         } else if (role == UserRole.UNIVERSITY) {
             University university = createUniversityProfile(user, request);
             response.setUniversityId(university.getId());
+            activityLogService.record("user_registered", "New university registered: " + university.getName(), user.getId(), university.getId());
             
             // Send welcome notification
             notificationService.createNotification(user, "University Registered!", 
@@ -139,7 +152,9 @@ public class AuthService {
             throw new RuntimeException("Please select a valid university from the list");
         }
         
-        university = universityRepository.findByName(request.getUniversity())
+        // The sign-up form takes free text with autocomplete suggestions, so match the name loosely
+        String universityName = request.getUniversity() != null ? request.getUniversity().trim() : "";
+        university = universityRepository.findFirstByNameIgnoreCaseOrderByIdAsc(universityName)
             .orElseThrow(() -> new RuntimeException("University not found: " + request.getUniversity()));
         
         Student student = new Student();
@@ -173,6 +188,7 @@ public class AuthService {
             }
         }
         
+        collectionVersions.bump(CollectionVersionService.ORGANIZATIONS);
         return organizationRepository.save(organization);
     }
     
@@ -209,6 +225,7 @@ public class AuthService {
             }
         }
         
+        collectionVersions.bump(CollectionVersionService.UNIVERSITIES);
         return universityRepository.save(university);
     }
 }
\ No newline at end of file
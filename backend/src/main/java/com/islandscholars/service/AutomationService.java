@@ -2,28 +2,48 @@ package com.islandscholars.service;
 
 import com.islandscholars.entity.*;
 import com.islandscholars.repository.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import org.springframework.transaction.annotation.Transactional;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
 import java.util.List;
 import java.util.ArrayList;
 
 @Service
 public class AutomationService {
     
-    @Autowired
-    private ApplicationRepository applicationRepository;
+    private static final Logger log = LoggerFactory.getLogger(AutomationService.class);
     
-    @Autowired
-    private StudentRepository studentRepository;
+    // Students with an accepted application who are still missing a CV or introduction letter
+    private static final String MISSING_DOCUMENTS_SQL =
+        "SELECT user_id, has_cv, has_introduction_letter FROM (" +
+        "SELECT s.id, s.user_id, " +
+        "EXISTS (SELECT 1 FROM documents d WHERE d.student_id = s.id AND LOWER(d.type) = 'cv') AS has_cv, " +
+        "EXISTS (SELECT 1 FROM documents d WHERE d.student_id = s.id AND LOWER(d.type) = 'introduction_letter') AS has_introduction_letter " +
+        "FROM students s " +
+        "WHERE EXISTS (SELECT 1 FROM applications a WHERE a.student_id = s.id AND LOWER(a.status) = 'accepted')) candidates " +
+        "WHERE NOT (has_cv AND has_introduction_letter) ORDER BY id";
+    
+    private static final int[] REMINDER_DAYS = {7, 3, 1};
     
     @Autowired
     private InternshipRepository internshipRepository;
     
     @Autowired
-    private DocumentRepository documentRepository;
+    private CollectionVersionService collectionVersions;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Value("${app.reminders.batch-size:500}")
+    private int reminderBatchSize;
     
     @Autowired
     private NotificationService notificationService;
@@ -31,98 +51,63 @@ public class AutomationService {
     @Autowired
     private UserRepository userRepository;
     
-    // Run every hour to check for deadline reminders
-    @Scheduled(fixedRate = 3600000)
+    // Run every hour (see ClusterJobScheduler) to check for deadline reminders. Each window is an
+    // index probe on (status, start_date) rather than a scan of the active catalog.
+    @Transactional
     public void checkDeadlineReminders() {
-        List<Internship> activeInternships = internshipRepository.findByStatus("active");
+        LocalDate today = LocalDate.now();
         
-        for (Internship internship : activeInternships) {
-            if (internship.getStartDate() != null) {
-                try {
-                    LocalDateTime startDate = LocalDateTime.parse(internship.getStartDate() + "T00:00:00");
-                    LocalDateTime now = LocalDateTime.now();
-                    long daysUntilStart = ChronoUnit.DAYS.between(now, startDate);
-                    
-                    if (daysUntilStart == 7 || daysUntilStart == 3 || daysUntilStart == 1) {
-                        // Send reminders to students who haven't applied yet
-                        List<Student> allStudents = studentRepository.findAll();
-                        for (Student student : allStudents) {
-                            boolean hasApplied = applicationRepository.findByStudentAndInternship(student, internship).isPresent();
-                            if (!hasApplied) {
-                                notificationService.sendDeadlineReminderNotification(
-                                    student.getUser(), 
-                                    internship.getTitle(), 
-                                    (int) daysUntilStart
-                                );
-                            }
-                        }
-                    }
-                } catch (Exception e) {
-                    // Handle date parsing errors
-                    System.err.println("Error parsing start date for internship: " + internship.getId());
-                }
+        for (int daysUntilStart : REMINDER_DAYS) {
+            for (Internship internship : internshipRepository.findByStatusAndStartDate("active", today.plusDays(daysUntilStart))) {
+                // Send reminders to students who haven't applied yet, in a single INSERT ... SELECT
+                notificationService.sendDeadlineRemindersToNonApplicants(internship, daysUntilStart);
             }
         }
     }
     
-    // Run daily to check for document reminders
-    @Scheduled(fixedRate = 86400000)
+    // Run daily to check for document reminders; each student is reminded at most once per ISO week.
+    // The cursor is streamed, which the PostgreSQL driver only does inside a transaction.
+    @Transactional
     public void checkDocumentReminders() {
-        List<Student> students = studentRepository.findAll();
+        LocalDate today = LocalDate.now();
+        String week = today.get(IsoFields.WEEK_BASED_YEAR) + "-W" + today.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
         
-        for (Student student : students) {
-            List<String> missingDocuments = getMissingDocuments(student);
-            
-            if (!missingDocuments.isEmpty()) {
-                // Only send reminder if student has accepted applications
-                boolean hasAcceptedApplications = applicationRepository.findByStudentId(student.getId())
-                    .stream()
-                    .anyMatch(app -> "accepted".equalsIgnoreCase(app.getStatus()));
-                
-                if (hasAcceptedApplications) {
-                    notificationService.sendDocumentReminderNotification(student, missingDocuments);
+        Integer sent = jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(MISSING_DOCUMENTS_SQL,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(reminderBatchSize);
+            return statement;
+        }, resultSet -> {
+            List<NotificationService.DocumentReminder> batch = new ArrayList<>(reminderBatchSize);
+            int count = 0;
+            while (resultSet.next()) {
+                List<String> missingDocuments = new ArrayList<>(2);
+                if (!resultSet.getBoolean(2)) {
+                    missingDocuments.add("CV/Resume");
+                }
+                if (!resultSet.getBoolean(3)) {
+                    missingDocuments.add("University Introduction Letter");
+                }
+                batch.add(new NotificationService.DocumentReminder(resultSet.getLong(1), missingDocuments));
+                if (batch.size() >= reminderBatchSize) {
+                    count += notificationService.sendDocumentRemindersOnce(batch, week);
+                    batch.clear();
                 }
             }
-        }
-    }
-    
-    private List<String> getMissingDocuments(Student student) {
-        List<String> missingDocs = new ArrayList<>();
-        List<Document> documents = documentRepository.findByStudentId(student.getId());
+            return count + notificationService.sendDocumentRemindersOnce(batch, week);
+        });
         
-        boolean hasCv = documents.stream().anyMatch(doc -> "cv".equalsIgnoreCase(doc.getType()));
-        boolean hasIntroLetter = documents.stream().anyMatch(doc -> "introduction_letter".equalsIgnoreCase(doc.getType()));
-        
-        if (!hasCv) {
-            missingDocs.add("CV/Resume");
-        }
-        if (!hasIntroLetter) {
-            missingDocs.add("University Introduction Letter");
-        }
-        
-        return missingDocs;
+        log.info("Sent document reminders: {}", sent);
     }
     
     // Run daily to clean up expired internships
-    @Scheduled(fixedRate = 86400000)
+    @Transactional
     public void cleanupExpiredInternships() {
-        List<Internship> activeInternships = internshipRepository.findByStatus("active");
-        LocalDateTime now = LocalDateTime.now();
+        int expired = internshipRepository.expireStartedBefore(LocalDate.now());
         
-        for (Internship internship : activeInternships) {
-            if (internship.getStartDate() != null) {
-                try {
-                    LocalDateTime startDate = LocalDateTime.parse(internship.getStartDate() + "T00:00:00");
-                    
-                    // Mark as expired if start date has passed
-                    if (startDate.isBefore(now)) {
-                        internship.setStatus("expired");
-                        internshipRepository.save(internship);
-                    }
-                } catch (Exception e) {
-                    System.err.println("Error parsing start date for internship: " + internship.getId());
-                }
-            }
+        if (expired > 0) {
+            log.info("Expired internships: {}", expired);
+            collectionVersions.bump(CollectionVersionService.INTERNSHIPS, CollectionVersionService.ORGANIZATIONS);
         }
     }
     
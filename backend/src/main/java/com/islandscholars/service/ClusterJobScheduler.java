@@ -0,0 +1,62 @@
+package com.islandscholars.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Triggers for the jobs that must run once per cluster rather than once per node. Every node
+// fires the schedule; JobLockService lets only the lease holder through. The jobs are called
+// through their beans so their own @Transactional boundaries commit before the lease is released.
+// Per-node work (activity/report buffer flushes, in-memory rollups) keeps its own @Scheduled.
+@Component
+public class ClusterJobScheduler {
+    
+    public static final String DEADLINE_REMINDERS = "deadline-reminders";
+    public static final String DOCUMENT_REMINDERS = "document-reminders";
+    public static final String EXPIRE_INTERNSHIPS = "expire-internships";
+    public static final String ORGANIZATION_STATS_REBUILD = "organization-stats-rebuild";
+    public static final String SUGGESTION_PRECOMPUTE = "suggestion-precompute";
+    
+    // How long a finished run keeps its lease: just under the period for fixed-rate jobs, whose
+    // nodes fire at different times, and a few minutes for cron jobs to absorb clock skew
+    private static final long HOURLY_HOLD_MS = 55 * 60 * 1000L;
+    private static final long DAILY_HOLD_MS = 23 * 60 * 60 * 1000L;
+    private static final long CRON_HOLD_MS = 5 * 60 * 1000L;
+    
+    @Autowired
+    private JobLockService jobLocks;
+    
+    @Autowired
+    private AutomationService automationService;
+    
+    @Autowired
+    private OrganizationStatsService organizationStatsService;
+    
+    @Autowired
+    private SuggestionPrecomputeService suggestionPrecomputeService;
+    
+    @Scheduled(fixedRate = 3600000)
+    public void deadlineReminders() {
+        jobLocks.runExclusively(DEADLINE_REMINDERS, HOURLY_HOLD_MS, automationService::checkDeadlineReminders);
+    }
+    
+    @Scheduled(fixedRate = 86400000)
+    public void documentReminders() {
+        jobLocks.runExclusively(DOCUMENT_REMINDERS, DAILY_HOLD_MS, automationService::checkDocumentReminders);
+    }
+    
+    @Scheduled(fixedRate = 86400000)
+    public void expireInternships() {
+        jobLocks.runExclusively(EXPIRE_INTERNSHIPS, DAILY_HOLD_MS, automationService::cleanupExpiredInternships);
+    }
+    
+    @Scheduled(cron = "${app.stats.organization-rebuild-cron:0 30 2 * * *}")
+    public void rebuildOrganizationStats() {
+        jobLocks.runExclusively(ORGANIZATION_STATS_REBUILD, CRON_HOLD_MS, organizationStatsService::rebuildAll);
+    }
+    
+    @Scheduled(cron = "${app.suggestions.precompute-cron:0 0 3 * * *}")
+    public void precomputeSuggestions() {
+        jobLocks.runExclusively(SUGGESTION_PRECOMPUTE, CRON_HOLD_MS, suggestionPrecomputeService::precomputeAll);
+    }
+}
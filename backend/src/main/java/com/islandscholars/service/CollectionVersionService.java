@@ -0,0 +1,78 @@
+package com.islandscholars.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Per-collection change counters behind the ETags of the catalog and reference-data endpoints.
+// Counters live in the collection_versions table and are bumped inside the writing transaction,
+// so every node sees the same version once the write commits. Reads go through a snapshot of
+// the whole table that each node reloads at most once per app.versions.cache-ms; the writing
+// node drops its snapshot on commit so it never serves its own stale tag.
+@Service
+public class CollectionVersionService {
+    
+    public static final String INTERNSHIPS = "internships";
+    public static final String UNIVERSITIES = "universities";
+    public static final String ORGANIZATIONS = "organizations";
+    
+    private static final String BUMP_SQL =
+        "INSERT INTO collection_versions (name, version) VALUES (?, 1) " +
+        "ON CONFLICT (name) DO UPDATE SET version = collection_versions.version + 1";
+    
+    private static final String SELECT_SQL = "SELECT name, version FROM collection_versions";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Value("${app.versions.cache-ms:1000}")
+    private long cacheMs;
+    
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), 0);
+    
+    // Incremented when a local write commits, so a reload that started before it is not published
+    private final AtomicLong generation = new AtomicLong();
+    
+    public void bump(String... collections) {
+        for (String collection : collections) {
+            jdbcTemplate.update(BUMP_SQL, collection);
+        }
+        AfterCommit.run(() -> {
+            generation.incrementAndGet();
+            snapshot = new Snapshot(Map.of(), 0);
+        });
+    }
+    
+    public String etag(String collection) {
+        return "\"" + collection + "-" + current().versions().getOrDefault(collection, 0L) + "\"";
+    }
+    
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (System.currentTimeMillis() - current.loadedAt() < cacheMs) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot;
+            if (System.currentTimeMillis() - current.loadedAt() < cacheMs) {
+                return current;
+            }
+            long started = generation.get();
+            Map<String, Long> versions = new HashMap<>();
+            jdbcTemplate.query(SELECT_SQL, resultSet -> {
+                versions.put(resultSet.getString(1), resultSet.getLong(2));
+            });
+            current = new Snapshot(versions, System.currentTimeMillis());
+            if (generation.get() == started) {
+                snapshot = current;
+            }
+            return current;
+        }
+    }
+    
+    private record Snapshot(Map<String, Long> versions, long loadedAt) {}
+}
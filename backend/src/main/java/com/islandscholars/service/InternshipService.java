@@ -1,72 +1,93 @@
 package com.islandscholars.service;
 
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import com.islandscholars.dto.CreateInternshipRequest;
+import com.islandscholars.dto.FacetCount;
 import com.islandscholars.dto.InternshipDTO;
+import com.islandscholars.dto.InternshipSearchHit;
 import com.islandscholars.entity.Internship;
 import com.islandscholars.entity.Organization;
 import com.islandscholars.repository.InternshipRepository;
 import com.islandscholars.repository.OrganizationRepository;
-import java.util.stream.Collectors;
 
 @Service
 public class InternshipService {
 
+    public static final Sort DEFAULT_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
     @Autowired
     private InternshipRepository internshipRepository;
 
     @Autowired
     private OrganizationRepository organizationRepository;
 
-    public List<InternshipDTO> getAllInternships() {
-        List<Internship> internships = internshipRepository.findAll();
-        System.out.println("Fetched internships: " + internships.size());
-        return internships.stream().map(this::convertToDTO).collect(Collectors.toList());
+    @Autowired
+    private ActivityLogService activityLogService;
+
+    @Autowired
+    private CollectionVersionService collectionVersions;
+
+    public Page<InternshipDTO> getCatalog(String field, String location, String type, String status,
+                                          LocalDate startFrom, LocalDate startTo, Pageable pageable) {
+        Page<InternshipDTO> internships = internshipRepository.findCatalog(field, location, type, status, null,
+                startFrom, startTo, pageable);
+        System.out.println("Fetched internships: " + internships.getNumberOfElements());
+        return internships;
+    }
+
+    // Facet name -> value -> count, most common values first
+    public Map<String, Map<String, Long>> getFacets(String field, String location, String type, String status,
+                                                    LocalDate startFrom, LocalDate startTo) {
+        Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+        for (String facet : List.of("field", "location", "type", "status", "startMonth")) {
+            facets.put(facet, new LinkedHashMap<>());
+        }
+        for (FacetCount count : internshipRepository.countFacets(field, location, type, status, startFrom, startTo)) {
+            facets.get(count.getFacet()).put(count.getValue(), count.getCount());
+        }
+        return facets;
     }
 
-    private InternshipDTO convertToDTO(Internship internship) {
-        return new InternshipDTO(
-                internship.getId(),
-                internship.getTitle(),
-                internship.getDescription(),
-                internship.getLocation(),
-                internship.getDuration(),
-                internship.getField(),
-                internship.getType(),
-                internship.getSpotsAvailable(),
-                internship.getStartDate(),
-                internship.getStatus(),
-                internship.getOrganization().getName(),
-                internship.getRequirements(),
-                internship.getResponsibilities()
-        );
+    public Page<InternshipSearchHit> search(String query, String status, Pageable pageable) {
+        Page<InternshipSearchHit> hits = internshipRepository.search(query.trim(), status, pageable);
+        System.out.println("Search matched internships: " + hits.getTotalElements());
+        return hits;
     }
 
     public Optional<InternshipDTO> getInternshipById(Long id) {
-        return internshipRepository.findById(id).map(this::convertToDTO);
+        return internshipRepository.findCatalogEntry(id);
     }
 
     public List<InternshipDTO> getInternshipsByOrganization(Long organizationId) {
-        List<Internship> internships = internshipRepository.findByOrganizationId(organizationId);
+        List<InternshipDTO> internships = internshipRepository
+                .findCatalog(null, null, null, null, organizationId, null, null, Pageable.unpaged(DEFAULT_SORT)).getContent();
         System.out.println("Fetched internships by organization: " + internships.size());
-        return internships.stream().map(this::convertToDTO).collect(Collectors.toList());
+        return internships;
     }
 
     public List<InternshipDTO> getInternshipsByField(String field) {
-        List<Internship> internships = internshipRepository.findByField(field);
+        List<InternshipDTO> internships = internshipRepository
+                .findCatalog(field, null, null, null, null, null, null, Pageable.unpaged(DEFAULT_SORT)).getContent();
         System.out.println("Fetched internships by field: " + internships.size());
-        return internships.stream().map(this::convertToDTO).collect(Collectors.toList());
+        return internships;
     }
 
     public List<InternshipDTO> getInternshipsByLocation(String location) {
-        List<Internship> internships = internshipRepository.findByLocation(location);
+        List<InternshipDTO> internships = internshipRepository
+                .findCatalog(null, location, null, null, null, null, null, Pageable.unpaged(DEFAULT_SORT)).getContent();
         System.out.println("Fetched internships by location: " + internships.size());
-        return internships.stream().map(this::convertToDTO).collect(Collectors.toList());
+        return internships;
     }
 
     public Internship createInternship(CreateInternshipRequest request) {
@@ -95,6 +116,11 @@ public class InternshipService {
 
         Internship savedInternship = internshipRepository.save(internship);
         System.out.println("Created internship with ID: " + savedInternship.getId());
+        // Organization summaries carry the active internship count, so they change too
+        collectionVersions.bump(CollectionVersionService.INTERNSHIPS, CollectionVersionService.ORGANIZATIONS);
+        activityLogService.record("internship_created",
+                "New internship posted: " + savedInternship.getTitle() + " at " + organization.getName(),
+                null, savedInternship.getId());
         return savedInternship;
     }
 
@@ -116,6 +142,7 @@ public class InternshipService {
 
         Internship updatedInternship = internshipRepository.save(internship);
         System.out.println("Updated internship with ID: " + updatedInternship.getId());
+        collectionVersions.bump(CollectionVersionService.INTERNSHIPS, CollectionVersionService.ORGANIZATIONS);
         return updatedInternship;
     }
 
@@ -124,5 +151,6 @@ public class InternshipService {
                 .orElseThrow(() -> new RuntimeException("Internship not found"));
         internshipRepository.delete(internship);
         System.out.println("Deleted internship with ID: " + id);
+        collectionVersions.bump(CollectionVersionService.INTERNSHIPS, CollectionVersionService.ORGANIZATIONS);
     }
 }
@@ -1,94 +1,130 @@
 package com.islandscholars.service;
 
+import com.islandscholars.dto.AppliedInternship;
+import com.islandscholars.dto.SuggestedInternship;
 import com.islandscholars.entity.Student;
-import com.islandscholars.entity.Internship;
-import com.islandscholars.entity.Application;
 import com.islandscholars.repository.InternshipRepository;
 import com.islandscholars.repository.ApplicationRepository;
+import com.islandscholars.repository.StudentRepository;
+import com.islandscholars.repository.StudentSuggestionRepository;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.HashSet;
-import java.util.stream.Collectors;
 
 @Service
 public class InternshipSuggestionService {
     
+    private static final int SUGGESTION_COUNT = 6;
+    
     @Autowired
     private InternshipRepository internshipRepository;
     
     @Autowired
     private ApplicationRepository applicationRepository;
     
-    public List<Internship> getSuggestedInternships(Student student) {
-        // Get all active internships
-        List<Internship> activeInternships = internshipRepository.findByStatus("active");
-        
-        // Get internships student has already applied to
-        List<Application> studentApplications = applicationRepository.findByStudentId(student.getId());
-        Set<Long> appliedInternshipIds = studentApplications.stream()
-            .filter(app -> app.getInternship() != null)
-            .map(app -> app.getInternship().getId())
-            .collect(Collectors.toSet());
-        
-        // Filter out already applied internships
-        List<Internship> availableInternships = activeInternships.stream()
-            .filter(internship -> !appliedInternshipIds.contains(internship.getId()))
-            .collect(Collectors.toList());
-        
-        // Get fields student has previously applied to
-        Set<String> appliedFields = studentApplications.stream()
-            .filter(app -> app.getInternship() != null)
-            .map(app -> app.getInternship().getField())
-            .collect(Collectors.toSet());
-        
-        // Score and sort internships
-        return availableInternships.stream()
-            .sorted((i1, i2) -> {
-                int score1 = calculateSuggestionScore(i1, student, appliedFields);
-                int score2 = calculateSuggestionScore(i2, student, appliedFields);
-                return Integer.compare(score2, score1); // Higher score first
-            })
-            .limit(6) // Return top 6 suggestions
-            .collect(Collectors.toList());
+    @Autowired
+    private StudentRepository studentRepository;
+    
+    @Autowired
+    private StudentSuggestionRepository studentSuggestionRepository;
+    
+    @Autowired
+    private CollectionVersionService collectionVersions;
+    
+    @Value("${app.suggestions.cache-size:10000}")
+    private int cacheSize;
+    
+    @Value("${app.suggestions.cache-ttl-ms:900000}")
+    private long cacheTtlMs;
+    
+    private volatile SuggestionIndex index = SuggestionIndex.EMPTY;
+    private SuggestionCache cache;
+    
+    @PostConstruct
+    void init() {
+        cache = new SuggestionCache(cacheSize, cacheTtlMs);
     }
     
-    private int calculateSuggestionScore(Internship internship, Student student, Set<String> appliedFields) {
-        int score = 0;
-        
-        // Field match with student's field of study
-        if (student.getFieldOfStudy() != null && 
-            internship.getField().toLowerCase().contains(student.getFieldOfStudy().toLowerCase())) {
-            score += 10;
+    // Cached per user; a hit costs no queries at all, not even the student lookup
+    public Optional<List<SuggestedInternship>> getSuggestionsForUser(Long userId) {
+        String version = suggestionVersion();
+        List<SuggestedInternship> suggestions = cache.get(userId, version);
+        if (suggestions != null) {
+            return Optional.of(suggestions);
         }
+        long generation = cache.generation();
         
-        // Field match with previously applied fields
-        if (appliedFields.contains(internship.getField())) {
-            score += 5;
+        Optional<Student> student = studentRepository.findByUserId(userId);
+        if (student.isEmpty()) {
+            return Optional.empty();
         }
-        
-        // Location preference (same as university location)
-        if (student.getUniversity() != null && 
-            internship.getLocation().toLowerCase().contains(student.getUniversity().getLocation().toLowerCase())) {
-            score += 3;
+        // Precomputed rows come back empty once they are stale, on any node
+        suggestions = studentSuggestionRepository.findPrecomputed(student.get().getId(), version);
+        if (suggestions.isEmpty()) {
+            suggestions = getSuggestedInternships(student.get());
         }
-        
-        // Newer internships get higher score
-        if (internship.getCreatedAt() != null) {
-            long daysOld = java.time.temporal.ChronoUnit.DAYS.between(
-                internship.getCreatedAt().toLocalDate(), 
-                java.time.LocalDate.now()
-            );
-            if (daysOld < 7) score += 2;
-            else if (daysOld < 30) score += 1;
+        cache.put(userId, version, suggestions, generation);
+        return Optional.of(suggestions);
+    }
+    
+    // Called when a student applies, withdraws or edits their profile. The revision bump joins the
+    // caller's transaction, so precomputed rows stop being served exactly when the change commits.
+    public void invalidate(Student student) {
+        Long userId = student.getUser().getId();
+        studentRepository.bumpSuggestionRevision(student.getId());
+        AfterCommit.run(() -> cache.invalidate(userId));
+    }
+    
+    // Scores depend on the catalog and on the university location
+    String suggestionVersion() {
+        return collectionVersions.etag(CollectionVersionService.INTERNSHIPS) + "/" +
+            collectionVersions.etag(CollectionVersionService.UNIVERSITIES);
+    }
+    
+    public Map<String, Object> getCacheStats() {
+        return cache.stats();
+    }
+    
+    public List<SuggestedInternship> getSuggestedInternships(Student student) {
+        SuggestionIndex index = currentIndex();
+        return index.top(profileOf(index, student), SUGGESTION_COUNT, LocalDate.now().toEpochDay());
+    }
+    
+    private SuggestionIndex.SuggestionProfile profileOf(SuggestionIndex index, Student student) {
+        // Internships the student already applied to are skipped; their fields boost similar ones
+        Set<Long> appliedInternshipIds = new HashSet<>();
+        Set<String> appliedFields = new HashSet<>();
+        for (AppliedInternship applied : applicationRepository.findAppliedInternships(student.getId())) {
+            appliedInternshipIds.add(applied.getInternshipId());
+            appliedFields.add(SuggestionIndex.normalize(applied.getField()));
         }
         
-        // More available spots get higher score
-        if (internship.getSpotsAvailable() > 1) {
-            score += 1;
+        String universityLocation = student.getUniversity() != null ? student.getUniversity().getLocation() : null;
+        return index.profile(student.getFieldOfStudy(), universityLocation, student.getSkills(), student.getInterests(),
+            appliedFields, appliedInternshipIds);
+    }
+    
+    // The candidate index is rebuilt only after the internship catalog changes
+    SuggestionIndex currentIndex() {
+        String version = collectionVersions.etag(CollectionVersionService.INTERNSHIPS);
+        SuggestionIndex current = index;
+        if (!version.equals(current.version)) {
+            current = rebuildIndex(version);
         }
-        
-        return score;
+        return current;
+    }
+    
+    private synchronized SuggestionIndex rebuildIndex(String version) {
+        if (!version.equals(index.version)) {
+            index = new SuggestionIndex(version, internshipRepository.findSuggestionCandidates());
+        }
+        return index;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,126 @@
+package com.islandscholars.service;
+
+import com.islandscholars.dto.JobLeaseStatus;
+import com.islandscholars.repository.JobLeaseRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+// Lease-based lock in the job_leases table so a cluster-wide job runs on one node at a time.
+// The lease is renewed while the job runs, so a node that dies mid-run frees it within leaseMs.
+@Service
+public class JobLockService {
+    
+    private static final Logger log = LoggerFactory.getLogger(JobLockService.class);
+    
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Value("${app.jobs.node-id:}")
+    private String configuredNodeId;
+    
+    @Value("${app.jobs.lease-ms:60000}")
+    private long leaseMs;
+    
+    private String nodeId;
+    
+    private TransactionTemplate leaseTransaction;
+    
+    private ScheduledExecutorService renewer;
+    
+    @PostConstruct
+    public void init() {
+        nodeId = configuredNodeId.isBlank() ? defaultNodeId() : configuredNodeId;
+        // Lease changes commit on their own, whatever transaction the caller is in
+        leaseTransaction = new TransactionTemplate(transactionManager);
+        leaseTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-lease-renewer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        renewer.shutdownNow();
+    }
+    
+    // Runs the job if this node can take its lease; returns false when another node holds it.
+    // After the run the lease is kept until minHoldMs past its start.
+    public boolean runExclusively(String jobName, long minHoldMs, Runnable job) {
+        Integer acquired = leaseTransaction.execute(status -> jobLeaseRepository.acquire(jobName, nodeId, leaseMs));
+        if (acquired == null || acquired == 0) {
+            log.debug("Skipping job {}: lease held by another node", jobName);
+            return false;
+        }
+        
+        ScheduledFuture<?> renewal = renewer.scheduleAtFixedRate(() -> renew(jobName),
+            leaseMs / 3, leaseMs / 3, TimeUnit.MILLISECONDS);
+        long started = System.nanoTime();
+        String outcome = "failed";
+        String error = null;
+        try {
+            job.run();
+            outcome = "succeeded";
+        } catch (RuntimeException e) {
+            error = e.toString();
+            throw e;
+        } finally {
+            renewal.cancel(false);
+            long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+            String status = outcome;
+            String message = error;
+            leaseTransaction.executeWithoutResult(tx ->
+                jobLeaseRepository.release(jobName, nodeId, minHoldMs, durationMs, status, message));
+            log.info("Job {} {} on {} in {} ms", jobName, outcome, nodeId, durationMs);
+        }
+        return true;
+    }
+    
+    public String getNodeId() {
+        return nodeId;
+    }
+    
+    public List<JobLeaseStatus> getStatuses() {
+        return jobLeaseRepository.findStatuses();
+    }
+    
+    private void renew(String jobName) {
+        try {
+            Integer renewed = leaseTransaction.execute(status -> jobLeaseRepository.renew(jobName, nodeId, leaseMs));
+            if (renewed == null || renewed == 0) {
+                log.warn("Lost the lease for job {} while it was still running on {}", jobName, nodeId);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to renew the lease for job {}", jobName, e);
+        }
+    }
+    
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + "-" + ProcessHandle.current().pid();
+    }
+}
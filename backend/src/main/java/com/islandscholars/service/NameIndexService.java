@@ -0,0 +1,133 @@
+package com.islandscholars.service;
+
+import com.islandscholars.dto.NamedRef;
+import com.islandscholars.repository.OrganizationRepository;
+import com.islandscholars.repository.UniversityRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Supplier;
+
+// Case-insensitive prefix lookups over university and organization names, served from sorted
+// arrays in memory. Every word start of a name is indexed, so "dar" finds "University of Dar es Salaam".
+// An index is rebuilt on the first lookup after its collection version changes.
+@Service
+public class NameIndexService {
+    
+    @Autowired
+    private UniversityRepository universityRepository;
+    
+    @Autowired
+    private OrganizationRepository organizationRepository;
+    
+    @Autowired
+    private CollectionVersionService collectionVersions;
+    
+    private volatile NameIndex universities = NameIndex.EMPTY;
+    private volatile NameIndex organizations = NameIndex.EMPTY;
+    
+    public List<NamedRef> suggestUniversities(String prefix, int limit) {
+        NameIndex index = universities;
+        String version = collectionVersions.etag(CollectionVersionService.UNIVERSITIES);
+        if (!version.equals(index.version)) {
+            index = rebuildUniversities(version);
+        }
+        return index.lookup(prefix, limit);
+    }
+    
+    public List<NamedRef> suggestOrganizations(String prefix, int limit) {
+        NameIndex index = organizations;
+        String version = collectionVersions.etag(CollectionVersionService.ORGANIZATIONS);
+        if (!version.equals(index.version)) {
+            index = rebuildOrganizations(version);
+        }
+        return index.lookup(prefix, limit);
+    }
+    
+    private synchronized NameIndex rebuildUniversities(String version) {
+        if (!version.equals(universities.version)) {
+            universities = NameIndex.build(version, universityRepository::findAllNames);
+        }
+        return universities;
+    }
+    
+    private synchronized NameIndex rebuildOrganizations(String version) {
+        if (!version.equals(organizations.version)) {
+            organizations = NameIndex.build(version, organizationRepository::findAllNames);
+        }
+        return organizations;
+    }
+    
+    private static String normalize(String text) {
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+    
+    private record Key(String text, NamedRef ref) {}
+    
+    private static final class NameIndex {
+        
+        static final NameIndex EMPTY = new NameIndex("", new String[0], new NamedRef[0]);
+        
+        final String version;
+        // keys[i] is a normalized name suffix starting at a word boundary; refs[i] is its entity
+        final String[] keys;
+        final NamedRef[] refs;
+        
+        NameIndex(String version, String[] keys, NamedRef[] refs) {
+            this.version = version;
+            this.keys = keys;
+            this.refs = refs;
+        }
+        
+        static NameIndex build(String version, Supplier<List<NamedRef>> source) {
+            List<Key> entries = new ArrayList<>();
+            for (NamedRef ref : source.get()) {
+                if (ref.getName() == null || ref.getName().isBlank()) {
+                    continue;
+                }
+                String name = normalize(ref.getName());
+                entries.add(new Key(name, ref));
+                for (int space = name.indexOf(' '); space >= 0; space = name.indexOf(' ', space + 1)) {
+                    entries.add(new Key(name.substring(space + 1), ref));
+                }
+            }
+            entries.sort(Comparator.comparing(Key::text));
+            
+            String[] keys = new String[entries.size()];
+            NamedRef[] refs = new NamedRef[entries.size()];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = entries.get(i).text();
+                refs[i] = entries.get(i).ref();
+            }
+            return new NameIndex(version, keys, refs);
+        }
+        
+        List<NamedRef> lookup(String prefix, int limit) {
+            String key = normalize(prefix);
+            
+            // Lower bound: the first key that is >= the prefix
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (keys[middle].compareTo(key) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            
+            // Several keys share one NamedRef instance when more than one word of a name matches
+            Set<NamedRef> matches = new LinkedHashSet<>();
+            for (int i = low; i < keys.length && matches.size() < limit && keys[i].startsWith(key); i++) {
+                matches.add(refs[i]);
+            }
+            return new ArrayList<>(matches);
+        }
+    }
+}
@@ -1,25 +1,46 @@
 package com.islandscholars.service;
 
 import com.islandscholars.entity.Notification;
+import com.islandscholars.entity.ReminderLedgerEntry;
 import com.islandscholars.entity.User;
 import com.islandscholars.entity.Student;
 import com.islandscholars.entity.Application;
+import com.islandscholars.entity.Internship;
 import com.islandscholars.entity.Supervisor;
 import com.islandscholars.repository.NotificationRepository;
 import com.islandscholars.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import java.util.List;
 
 @Service
 public class NotificationService {
     
+    private static final String DEADLINE_REMINDER_TITLE = "Application Deadline Approaching";
+    
+    private static final String DOCUMENT_REMINDER_TITLE = "Documents Required";
+    
+    // Same claim-then-notify shape as NotificationRepository.insertForNonApplicants, for a single user
+    private static final String DOCUMENT_REMINDER_SQL =
+        "WITH claimed AS (" +
+        "INSERT INTO reminder_ledger (user_id, internship_id, kind, window_key, created_at) " +
+        "VALUES (?, ?, 'document_reminder', ?, now()) " +
+        "ON CONFLICT (user_id, internship_id, kind, window_key) DO NOTHING RETURNING user_id) " +
+        "INSERT INTO notifications (user_id, title, message, type, is_read, created_at) " +
+        "SELECT user_id, ?, ?, 'document_reminder', false, now() FROM claimed";
+    
+    public record DocumentReminder(Long userId, List<String> missingDocuments) {}
+    
     @Autowired
     private NotificationRepository notificationRepository;
     
     @Autowired
     private UserRepository userRepository;
     
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
     public void sendApplicationStatusNotification(Student student, String status, String organizationName) {
         User user = student.getUser();
         
@@ -44,21 +65,48 @@ public class NotificationService {
     }
     
     public void sendDocumentReminderNotification(Student student, List<String> missingDocuments) {
-        User user = student.getUser();
-        
-        String title = "Documents Required";
-        String message = String.format("Please upload the following required documents: %s", 
-            String.join(", ", missingDocuments));
-        
-        createNotification(user, title, message, "document_reminder");
+        createNotification(student.getUser(), DOCUMENT_REMINDER_TITLE, documentReminderMessage(missingDocuments), "document_reminder");
     }
     
     public void sendDeadlineReminderNotification(User user, String internshipTitle, int daysLeft) {
-        String title = "Application Deadline Approaching";
-        String message = String.format("The application deadline for '%s' is in %d days. Don't miss out!", 
-            internshipTitle, daysLeft);
-        
-        createNotification(user, title, message, "deadline_reminder");
+        createNotification(user, DEADLINE_REMINDER_TITLE, deadlineReminderMessage(internshipTitle, daysLeft), "deadline_reminder");
+    }
+    
+    // Reminds every student who has not applied to the internship, at most once per reminder window
+    // (days left); returns the number of notifications written
+    public int sendDeadlineRemindersToNonApplicants(Internship internship, int daysLeft) {
+        return notificationRepository.insertForNonApplicants(internship.getId(), daysLeft + "d", DEADLINE_REMINDER_TITLE,
+            deadlineReminderMessage(internship.getTitle(), daysLeft), "deadline_reminder");
+    }
+    
+    // Writes a batch of document reminders in one JDBC round trip, skipping users whose ledger row for
+    // this window already exists; returns the number of notifications written
+    public int sendDocumentRemindersOnce(List<DocumentReminder> reminders, String windowKey) {
+        if (reminders.isEmpty()) {
+            return 0;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(DOCUMENT_REMINDER_SQL, reminders, reminders.size(), (ps, reminder) -> {
+            ps.setLong(1, reminder.userId());
+            ps.setLong(2, ReminderLedgerEntry.NO_INTERNSHIP);
+            ps.setString(3, windowKey);
+            ps.setString(4, DOCUMENT_REMINDER_TITLE);
+            ps.setString(5, documentReminderMessage(reminder.missingDocuments()));
+        });
+        int written = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                written += Math.max(count, 0);
+            }
+        }
+        return written;
+    }
+    
+    private String documentReminderMessage(List<String> missingDocuments) {
+        return String.format("Please upload the following required documents: %s", String.join(", ", missingDocuments));
+    }
+    
+    private String deadlineReminderMessage(String internshipTitle, int daysLeft) {
+        return String.format("The application deadline for '%s' is in %d days. Don't miss out!", internshipTitle, daysLeft);
     }
     
     public void sendNewApplicationNotification(User organizationUser, String studentName, String internshipTitle) {
@@ -0,0 +1,150 @@
+package com.islandscholars.service;
+
+import com.islandscholars.entity.Application;
+import com.islandscholars.entity.OrganizationApplicationStats;
+import com.islandscholars.repository.OrganizationApplicationStatsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class OrganizationStatsService {
+    
+    private static final Logger log = LoggerFactory.getLogger(OrganizationStatsService.class);
+    
+    @Autowired
+    private OrganizationApplicationStatsRepository statsRepository;
+    
+    // Every organization that existed at startup has a row (see seedMissing), so an insert here only
+    // happens for an organization's first application, and concurrent first applications add up
+    @Transactional
+    public void recordNewApplication(Application application) {
+        Long organizationId = resolveOrganizationId(application);
+        if (organizationId == null) {
+            return;
+        }
+        
+        statsRepository.incrementReceived(organizationId);
+    }
+    
+    @Transactional
+    public void recordStatusChange(Application application, String previousStatus) {
+        Long organizationId = resolveOrganizationId(application);
+        if (organizationId == null || application.getStatus().equalsIgnoreCase(previousStatus)) {
+            return;
+        }
+        
+        long[] deltas = new long[3];
+        addStatusDelta(deltas, previousStatus, -1);
+        addStatusDelta(deltas, application.getStatus(), 1);
+        statsRepository.applyDelta(organizationId, 0, deltas[0], deltas[1], deltas[2]);
+    }
+    
+    @Transactional
+    public void recordDeletion(Application application) {
+        Long organizationId = resolveOrganizationId(application);
+        if (organizationId == null) {
+            return;
+        }
+        
+        long[] deltas = new long[3];
+        addStatusDelta(deltas, application.getStatus(), -1);
+        statsRepository.applyDelta(organizationId, -1, deltas[0], deltas[1], deltas[2]);
+    }
+    
+    @Transactional
+    public Map<String, Object> getOrganizationStats(Long organizationId) {
+        // Organizations created since startup that have no applications yet are seeded on first read
+        OrganizationApplicationStats counters = statsRepository.findById(organizationId)
+            .orElseGet(() -> {
+                statsRepository.seedFor(List.of(organizationId));
+                return statsRepository.findById(organizationId).orElseGet(OrganizationApplicationStats::new);
+            });
+        
+        return toStats(counters);
+    }
+    
+    @Transactional
+    public Map<Long, Map<String, Object>> getOrganizationStats(Collection<Long> organizationIds) {
+        if (organizationIds.isEmpty()) {
+            return Map.of();
+        }
+        
+        Map<Long, OrganizationApplicationStats> counters = new HashMap<>();
+        statsRepository.findAllById(organizationIds).forEach(row -> counters.put(row.getOrganizationId(), row));
+        
+        Set<Long> missing = new HashSet<>(organizationIds);
+        missing.removeAll(counters.keySet());
+        if (!missing.isEmpty()) {
+            statsRepository.seedFor(missing);
+            statsRepository.findAllById(missing).forEach(row -> counters.put(row.getOrganizationId(), row));
+        }
+        
+        Map<Long, Map<String, Object>> stats = new LinkedHashMap<>();
+        for (Long organizationId : organizationIds) {
+            stats.put(organizationId, toStats(counters.getOrDefault(organizationId, new OrganizationApplicationStats())));
+        }
+        return stats;
+    }
+    
+    private Map<String, Object> toStats(OrganizationApplicationStats counters) {
+        long received = counters.getReceived();
+        long accepted = counters.getAccepted();
+        
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("totalApplicationsReceived", received);
+        stats.put("acceptedStudents", accepted);
+        stats.put("rejectedApplications", counters.getRejected());
+        stats.put("pendingApplications", counters.getPending());
+        stats.put("acceptanceRate", received > 0 ? (accepted * 100.0 / received) : 0);
+        return stats;
+    }
+    
+    // Counters for organizations that predate the table are counted once at startup. Several nodes may
+    // seed at the same time; rows that already exist are left alone.
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void seedMissing() {
+        int seeded = statsRepository.seedMissing();
+        if (seeded > 0) {
+            log.info("Seeded application counters for {} organizations.", seeded);
+        }
+    }
+    
+    // Reconcile the counters from the applications table every night to repair any drift,
+    // e.g. applications removed through an internship cascade delete (scheduled by ClusterJobScheduler)
+    @Transactional
+    public void rebuildAll() {
+        int removed = statsRepository.deleteOrphans();
+        int rebuilt = statsRepository.rebuild(null);
+        log.info("Rebuilt application counters for {} organizations ({} orphaned rows removed).", rebuilt, removed);
+    }
+    
+    private Long resolveOrganizationId(Application application) {
+        if (application.getInternship() != null) {
+            return application.getInternship().getOrganization().getId();
+        }
+        return application.getOrganization() != null ? application.getOrganization().getId() : null;
+    }
+    
+    private void addStatusDelta(long[] deltas, String status, long delta) {
+        if ("accepted".equalsIgnoreCase(status)) {
+            deltas[0] += delta;
+        } else if ("rejected".equalsIgnoreCase(status)) {
+            deltas[1] += delta;
+        } else if ("pending".equalsIgnoreCase(status)) {
+            deltas[2] += delta;
+        }
+    }
+}
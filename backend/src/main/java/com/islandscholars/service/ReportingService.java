@@ -0,0 +1,201 @@
+package com.islandscholars.service;
+
+import com.islandscholars.dto.DimensionCount;
+import com.islandscholars.entity.University;
+import com.islandscholars.entity.UserRole;
+import com.islandscholars.repository.DailyRollupRepository;
+import com.islandscholars.repository.UniversityRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import jakarta.annotation.PreDestroy;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@Service
+public class ReportingService {
+    
+    private static final Logger log = LoggerFactory.getLogger(ReportingService.class);
+    
+    static final String REGISTRATIONS = "registrations";
+    static final String APPLICATIONS = "applications";
+    static final String ACCEPTANCES = "acceptances";
+    
+    private static final String UPSERT_SQL =
+        "INSERT INTO daily_rollups (day, metric, dimension, count) VALUES (?, ?, ?, ?) " +
+        "ON CONFLICT (day, metric, dimension) DO UPDATE SET count = daily_rollups.count + EXCLUDED.count";
+    
+    @Autowired
+    private DailyRollupRepository dailyRollupRepository;
+    
+    @Autowired
+    private UniversityRepository universityRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    // Increments accumulate in memory and are written as one batched upsert per flush
+    private final Map<RollupKey, LongAdder> pendingIncrements = new ConcurrentHashMap<>();
+    
+    public void recordRegistration(UserRole role) {
+        increment(REGISTRATIONS, role.name());
+    }
+    
+    public void recordApplicationSubmitted() {
+        increment(APPLICATIONS, "submitted");
+    }
+    
+    // Each reviewed application counts once, under its current status on the day of its latest review,
+    // which is the rule the backfill queries use. A repeated review with the same status changes nothing;
+    // a changed decision (accepted -> rejected or back) moves the count off the earlier review's day.
+    public void recordApplicationReviewed(String status, String previousStatus, LocalDateTime previousReviewedAt,
+                                          Long universityId) {
+        if (status.equalsIgnoreCase(previousStatus)) {
+            return;
+        }
+        if (previousReviewedAt != null && isReviewed(previousStatus)) {
+            LocalDate previousDay = previousReviewedAt.toLocalDate();
+            add(previousDay, APPLICATIONS, previousStatus.toLowerCase(), -1);
+            if ("accepted".equalsIgnoreCase(previousStatus) && universityId != null) {
+                add(previousDay, ACCEPTANCES, universityId.toString(), -1);
+            }
+        }
+        increment(APPLICATIONS, status.toLowerCase());
+        if ("accepted".equalsIgnoreCase(status) && universityId != null) {
+            increment(ACCEPTANCES, universityId.toString());
+        }
+    }
+    
+    public Map<String, Object> getMonthlyReport(YearMonth month, int topUniversities) {
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+        
+        Map<String, Long> registrations = toMap(dailyRollupRepository.sumByDimension(REGISTRATIONS, from, to));
+        Map<String, Long> applications = toMap(dailyRollupRepository.sumByDimension(APPLICATIONS, from, to));
+        
+        long submitted = applications.getOrDefault("submitted", 0L);
+        long accepted = applications.getOrDefault("accepted", 0L);
+        long rejected = applications.getOrDefault("rejected", 0L);
+        long reviewed = accepted + rejected;
+        
+        Map<String, Object> report = new HashMap<>();
+        report.put("month", month.toString());
+        report.put("monthlyRegistrations", registrations.values().stream().mapToLong(Long::longValue).sum());
+        report.put("registrationsByRole", registrations);
+        report.put("monthlyApplications", submitted);
+        report.put("applicationsByStatus", applications);
+        report.put("successRate", reviewed > 0 ? (accepted * 100.0 / reviewed) : 0);
+        report.put("topUniversities", getTopUniversities(from, to, topUniversities));
+        return report;
+    }
+    
+    private List<String> getTopUniversities(LocalDate from, LocalDate to, int limit) {
+        List<DimensionCount> top = dailyRollupRepository.findTopDimensions(ACCEPTANCES, from, to, PageRequest.of(0, limit));
+        
+        List<Long> universityIds = new ArrayList<>();
+        for (DimensionCount count : top) {
+            universityIds.add(Long.valueOf(count.getDimension()));
+        }
+        
+        Map<Long, String> names = new HashMap<>();
+        for (University university : universityRepository.findAllById(universityIds)) {
+            names.put(university.getId(), university.getName());
+        }
+        
+        List<String> ranked = new ArrayList<>();
+        for (Long universityId : universityIds) {
+            if (names.containsKey(universityId)) {
+                ranked.add(names.get(universityId));
+            }
+        }
+        return ranked;
+    }
+    
+    // Rebuilds every rollup from the users and applications tables. Increments still
+    // buffered in memory are discarded since the rebuild already counts those rows.
+    @Transactional
+    public Map<String, Integer> backfill() {
+        pendingIncrements.clear();
+        
+        Map<String, Integer> inserted = new LinkedHashMap<>();
+        inserted.put("deleted", dailyRollupRepository.deleteAllRows());
+        inserted.put(REGISTRATIONS, dailyRollupRepository.backfillRegistrations());
+        inserted.put("submittedApplications", dailyRollupRepository.backfillSubmittedApplications());
+        inserted.put("reviewedApplications", dailyRollupRepository.backfillReviewedApplications());
+        inserted.put(ACCEPTANCES, dailyRollupRepository.backfillAcceptancesByUniversity());
+        
+        log.info("Backfilled daily rollups: {}", inserted);
+        return inserted;
+    }
+    
+    @Scheduled(fixedDelayString = "${app.reports.flush-interval-ms:5000}")
+    public void flush() {
+        List<Object[]> rows = new ArrayList<>();
+        for (Map.Entry<RollupKey, LongAdder> entry : pendingIncrements.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta != 0) {
+                RollupKey key = entry.getKey();
+                rows.add(new Object[] { Date.valueOf(key.day()), key.metric(), key.dimension(), delta });
+            }
+        }
+        
+        LocalDate today = LocalDate.now();
+        pendingIncrements.entrySet().removeIf(entry -> entry.getKey().day().isBefore(today) && entry.getValue().sum() == 0);
+        
+        if (rows.isEmpty()) {
+            return;
+        }
+        
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+        } catch (RuntimeException e) {
+            log.error("Failed to write {} rollup increments, will retry on next flush", rows.size(), e);
+            for (Object[] row : rows) {
+                RollupKey key = new RollupKey(((Date) row[0]).toLocalDate(), (String) row[1], (String) row[2]);
+                pendingIncrements.computeIfAbsent(key, k -> new LongAdder()).add((Long) row[3]);
+            }
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+    
+    private void increment(String metric, String dimension) {
+        add(LocalDate.now(), metric, dimension, 1);
+    }
+    
+    private void add(LocalDate day, String metric, String dimension, long delta) {
+        RollupKey key = new RollupKey(day, metric, dimension);
+        AfterCommit.run(() -> pendingIncrements.computeIfAbsent(key, k -> new LongAdder()).add(delta));
+    }
+    
+    private static boolean isReviewed(String status) {
+        return "accepted".equalsIgnoreCase(status) || "rejected".equalsIgnoreCase(status);
+    }
+    
+    private Map<String, Long> toMap(List<DimensionCount> counts) {
+        Map<String, Long> values = new HashMap<>();
+        for (DimensionCount count : counts) {
+            values.put(count.getDimension(), count.getCount());
+        }
+        return values;
+    }
+    
+    private record RollupKey(LocalDate day, String metric, String dimension) {}
+}
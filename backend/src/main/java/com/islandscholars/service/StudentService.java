@@ -1,14 +1,13 @@
 package com.islandscholars.service;
 
+import com.islandscholars.dto.StudentView;
 import com.islandscholars.entity.Student;
 import com.islandscholars.entity.Supervisor;
 import com.islandscholars.repository.StudentRepository;
 import com.islandscholars.repository.SupervisorRepository;
-import com.islandscholars.repository.ApplicationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 public class StudentService {
@@ -19,20 +18,19 @@ public class StudentService {
     @Autowired
     private SupervisorRepository supervisorRepository;
     
-    @Autowired
-    private ApplicationRepository applicationRepository;
-    
     @Autowired
     private AutomationService automationService;
     
-    public List<Student> getAcceptedStudentsByUniversity(Long universityId) {
-        List<Student> allStudents = studentRepository.findByUniversityId(universityId);
-        
-        return allStudents.stream()
-            .filter(student -> applicationRepository.findByStudentId(student.getId())
-                .stream()
-                .anyMatch(app -> "accepted".equalsIgnoreCase(app.getStatus())))
-            .collect(Collectors.toList());
+    public List<StudentView> getAllStudents() {
+        return studentRepository.findAllViews();
+    }
+    
+    public List<StudentView> getStudentsByUniversity(Long universityId) {
+        return studentRepository.findViewsByUniversityId(universityId);
+    }
+    
+    public List<StudentView> getAcceptedStudentsByUniversity(Long universityId) {
+        return studentRepository.findPlacedViewsByUniversityId(universityId);
     }
     
     public Student assignSupervisor(Long studentId, Long supervisorId) {
@@ -0,0 +1,113 @@
+package com.islandscholars.service;
+
+import com.islandscholars.dto.SuggestedInternship;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// Size-bounded LRU of suggestion lists keyed by user id. An entry is only served while it is
+// younger than the TTL and was computed against the current catalog and university versions,
+// so internship and university writes invalidate every entry without touching the map.
+final class SuggestionCache {
+    
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Map<Long, Entry> entries;
+    
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    
+    // Bumped by every invalidation. A caller reads it before computing and passes it to put, so a
+    // list computed from data that was invalidated meanwhile is never cached.
+    private long generation;
+    
+    SuggestionCache(int maxEntries, long ttlMillis) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if (size() > SuggestionCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+    
+    List<SuggestedInternship> get(Long userId, String version) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(userId);
+        }
+        if (entry != null && entry.version.equals(version) && entry.expiresAt > System.currentTimeMillis()) {
+            hits.increment();
+            return entry.suggestions;
+        }
+        misses.increment();
+        return null;
+    }
+    
+    long generation() {
+        synchronized (entries) {
+            return generation;
+        }
+    }
+    
+    // Returns false, caching nothing, when an invalidation happened after startGeneration was read
+    boolean put(Long userId, String version, List<SuggestedInternship> suggestions, long startGeneration) {
+        Entry entry = new Entry(version, System.currentTimeMillis() + ttlMillis, List.copyOf(suggestions));
+        synchronized (entries) {
+            if (generation != startGeneration) {
+                return false;
+            }
+            entries.put(userId, entry);
+            return true;
+        }
+    }
+    
+    void invalidate(Long userId) {
+        synchronized (entries) {
+            generation++;
+            if (entries.remove(userId) != null) {
+                invalidations.increment();
+            }
+        }
+    }
+    
+    Map<String, Object> stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", size);
+        stats.put("maxEntries", maxEntries);
+        stats.put("ttlMillis", ttlMillis);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", hitCount + missCount > 0 ? hitCount * 100.0 / (hitCount + missCount) : 0);
+        stats.put("evictions", evictions.sum());
+        stats.put("invalidations", invalidations.sum());
+        return stats;
+    }
+    
+    private static final class Entry {
+        final String version;
+        final long expiresAt;
+        final List<SuggestedInternship> suggestions;
+        
+        Entry(String version, long expiresAt, List<SuggestedInternship> suggestions) {
+            this.version = version;
+            this.expiresAt = expiresAt;
+            this.suggestions = suggestions;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.islandscholars.service;
+
+import com.islandscholars.dto.SuggestedInternship;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+// Immutable, array-backed view of the active catalog for suggestion scoring. Everything that does
+// not depend on the student (normalized field and location, creation day, spots bonus, TF-IDF
+// vectors of title, field and requirements) is computed once when the index is built, so scoring
+// a candidate is a few comparisons and one sparse dot product.
+final class SuggestionIndex {
+    
+    static final SuggestionIndex EMPTY = new SuggestionIndex("", List.of());
+    
+    private static final long UNKNOWN_DAY = Long.MIN_VALUE;
+    
+    // Points for a perfect skills/interests match; same weight as a field-of-study match
+    private static final int SKILL_MATCH_POINTS = 10;
+    
+    final String version;
+    final SuggestedInternship[] internships;
+    final long[] ids;
+    final String[] fields;
+    final String[] locations;
+    final long[] createdDays;
+    final int[] baseScores;
+    final TermVectors termVectors;
+    
+    SuggestionIndex(String version, List<SuggestedInternship> candidates) {
+        int size = candidates.size();
+        this.version = version;
+        this.internships = candidates.toArray(new SuggestedInternship[0]);
+        this.ids = new long[size];
+        this.fields = new String[size];
+        this.locations = new String[size];
+        this.createdDays = new long[size];
+        this.baseScores = new int[size];
+        
+        List<String> documents = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            SuggestedInternship internship = internships[i];
+            ids[i] = internship.getId();
+            fields[i] = normalize(internship.getField());
+            locations[i] = normalize(internship.getLocation());
+            createdDays[i] = internship.getCreatedAt() != null ? internship.getCreatedAt().toLocalDate().toEpochDay() : UNKNOWN_DAY;
+            // More available spots get a higher score
+            baseScores[i] = internship.getSpotsAvailable() != null && internship.getSpotsAvailable() > 1 ? 1 : 0;
+            documents.add(internship.getTitle() + " " + internship.getField() + " " +
+                (internship.getRequirements() != null ? internship.getRequirements() : ""));
+        }
+        this.termVectors = TermVectors.build(documents);
+    }
+    
+    SuggestionProfile profile(String fieldOfStudy, String universityLocation, String skills, String interests,
+                              Set<String> appliedFields, Set<Long> appliedInternshipIds) {
+        String text = (skills != null ? skills : "") + " " + (interests != null ? interests : "");
+        return new SuggestionProfile(fieldOfStudy, universityLocation, termVectors.vectorize(text), appliedFields, appliedInternshipIds);
+    }
+    
+    int size() {
+        return ids.length;
+    }
+    
+    int score(int i, SuggestionProfile profile, long today) {
+        int score = baseScores[i];
+        
+        // Field match with student's field of study
+        if (profile.fieldOfStudy != null && fields[i].contains(profile.fieldOfStudy)) {
+            score += 10;
+        }
+        
+        // Field match with previously applied fields
+        if (profile.appliedFields.contains(fields[i])) {
+            score += 5;
+        }
+        
+        // Location preference (same as university location)
+        if (profile.universityLocation != null && locations[i].contains(profile.universityLocation)) {
+            score += 3;
+        }
+        
+        // Student skills and interests against the internship's title, field and requirements
+        if (profile.skills.terms.length > 0) {
+            score += Math.round(termVectors.cosine(i, profile.skills) * SKILL_MATCH_POINTS);
+        }
+        
+        // Newer internships get higher score
+        if (createdDays[i] != UNKNOWN_DAY) {
+            long daysOld = today - createdDays[i];
+            if (daysOld < 7) score += 2;
+            else if (daysOld < 30) score += 1;
+        }
+        
+        return score;
+    }
+    
+    // Scores every candidate once and keeps the best k in a min-heap, so the cost is O(n log k).
+    // Heap keys pack (score, position) into a long; equal scores prefer the older posting, as before.
+    List<SuggestedInternship> top(SuggestionProfile profile, int k, long today) {
+        List<SuggestedInternship> result = new ArrayList<>(k);
+        for (int position : topPositions(profile, k, today)) {
+            result.add(internships[position]);
+        }
+        return result;
+    }
+    
+    // Positions in the index of the best k candidates, best first
+    int[] topPositions(SuggestionProfile profile, int k, long today) {
+        if (k <= 0) {
+            return new int[0];
+        }
+        PriorityQueue<Long> best = new PriorityQueue<>(k + 1);
+        for (int i = 0; i < ids.length; i++) {
+            if (profile.appliedInternshipIds.contains(ids[i])) {
+                continue;
+            }
+            long key = ((long) score(i, profile, today) << 32) | (Integer.MAX_VALUE - i);
+            if (best.size() < k) {
+                best.add(key);
+            } else if (key > best.peek()) {
+                best.poll();
+                best.add(key);
+            }
+        }
+        
+        int[] positions = new int[best.size()];
+        for (int slot = positions.length - 1; slot >= 0; slot--) {
+            positions[slot] = Integer.MAX_VALUE - (int) (best.poll() & 0xFFFFFFFFL);
+        }
+        return positions;
+    }
+    
+    static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+    
+    // The student's side of the score, normalized the same way as the index
+    static final class SuggestionProfile {
+        final String fieldOfStudy;
+        final String universityLocation;
+        final TermVectors.SparseVector skills;
+        final Set<String> appliedFields;
+        final Set<Long> appliedInternshipIds;
+        
+        private SuggestionProfile(String fieldOfStudy, String universityLocation, TermVectors.SparseVector skills,
+                                  Set<String> appliedFields, Set<Long> appliedInternshipIds) {
+            this.fieldOfStudy = fieldOfStudy != null ? normalize(fieldOfStudy) : null;
+            this.universityLocation = universityLocation != null ? normalize(universityLocation) : null;
+            this.skills = skills;
+            this.appliedFields = appliedFields;
+            this.appliedInternshipIds = appliedInternshipIds;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.islandscholars.service;
+
+import com.islandscholars.dto.StudentAppliedInternship;
+import com.islandscholars.dto.StudentSuggestionProfile;
+import com.islandscholars.entity.SuggestionPrecomputeRun;
+import com.islandscholars.repository.ApplicationRepository;
+import com.islandscholars.repository.StudentRepository;
+import com.islandscholars.repository.SuggestionPrecomputeRunRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+// Nightly precomputation of every student's suggestions into student_suggestions. The catalog is
+// loaded once into the shared immutable SuggestionIndex, students are scored in parallel on a
+// dedicated fork-join pool, and rows are written with JDBC batches. The delete and all inserts
+// run in one transaction together with the run row, so readers see either the previous run or the
+// new one. Each row carries the student's suggestion_revision as read before their applications,
+// so a change that lands while the batch runs leaves that student's rows stale rather than wrong.
+@Service
+public class SuggestionPrecomputeService {
+    
+    private static final Logger log = LoggerFactory.getLogger(SuggestionPrecomputeService.class);
+    
+    private static final String DELETE_SQL = "DELETE FROM student_suggestions";
+    
+    private static final String INSERT_SQL =
+        "INSERT INTO student_suggestions (student_id, internship_id, position, score, computed_at, student_revision) " +
+        "VALUES (?, ?, ?, ?, ?, ?)";
+    
+    private static final int SUGGESTION_COUNT = 6;
+    
+    @Autowired
+    private InternshipSuggestionService suggestionService;
+    
+    @Autowired
+    private StudentRepository studentRepository;
+    
+    @Autowired
+    private ApplicationRepository applicationRepository;
+    
+    @Autowired
+    private SuggestionPrecomputeRunRepository precomputeRunRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Value("${app.suggestions.precompute-parallelism:0}")
+    private int parallelism;
+    
+    @Value("${app.suggestions.precompute-batch-size:1000}")
+    private int batchSize;
+    
+    public synchronized Map<String, Object> precomputeAll() {
+        long started = System.currentTimeMillis();
+        String version = suggestionService.suggestionVersion();
+        SuggestionIndex index = suggestionService.currentIndex();
+        long today = LocalDate.now().toEpochDay();
+        
+        List<StudentSuggestionProfile> students = studentRepository.findSuggestionProfiles();
+        Map<Long, Set<Long>> appliedIds = new HashMap<>();
+        Map<Long, Set<String>> appliedFields = new HashMap<>();
+        for (StudentAppliedInternship applied : applicationRepository.findAllAppliedInternships()) {
+            appliedIds.computeIfAbsent(applied.getStudentId(), id -> new HashSet<>()).add(applied.getInternshipId());
+            appliedFields.computeIfAbsent(applied.getStudentId(), id -> new HashSet<>()).add(SuggestionIndex.normalize(applied.getField()));
+        }
+        
+        // Scoring only reads the immutable index and per-student sets, so it parallelizes freely
+        ForkJoinPool pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        List<Object[]> rows;
+        try {
+            rows = pool.submit(() -> students.parallelStream()
+                .flatMap(student -> {
+                    SuggestionIndex.SuggestionProfile profile = index.profile(
+                        student.getFieldOfStudy(), student.getUniversityLocation(), student.getSkills(), student.getInterests(),
+                        appliedFields.getOrDefault(student.getStudentId(), Set.of()),
+                        appliedIds.getOrDefault(student.getStudentId(), Set.of()));
+                    return toRows(student.getStudentId(), student.getSuggestionRevision(), index, profile, today).stream();
+                })
+                .toList()).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Suggestion precompute interrupted", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Suggestion precompute failed", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+        
+        SuggestionPrecomputeRun run = new SuggestionPrecomputeRun();
+        run.setCatalogVersion(version);
+        run.setStudents(students.size());
+        run.setCandidates(index.size());
+        run.setRowCount(rows.size());
+        run.setCompletedAt(LocalDateTime.now());
+        Timestamp computedAt = Timestamp.valueOf(run.getCompletedAt());
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(DELETE_SQL);
+            for (int from = 0; from < rows.size(); from += batchSize) {
+                List<Object[]> batch = rows.subList(from, Math.min(from + batchSize, rows.size()));
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, row) -> {
+                    ps.setLong(1, (Long) row[0]);
+                    ps.setLong(2, (Long) row[1]);
+                    ps.setInt(3, (Integer) row[2]);
+                    ps.setInt(4, (Integer) row[3]);
+                    ps.setTimestamp(5, computedAt);
+                    ps.setLong(6, ((Number) row[4]).longValue());
+                });
+            }
+            run.setDurationMs(System.currentTimeMillis() - started);
+            precomputeRunRepository.save(run);
+        });
+        
+        Map<String, Object> summary = describe(run);
+        log.info("Precomputed suggestions: {}", summary);
+        return summary;
+    }
+    
+    // The latest run of any node, read from suggestion_precompute_runs
+    public Map<String, Object> getLastRun() {
+        return precomputeRunRepository.findTopByOrderByIdDesc().map(this::describe).orElse(Map.of());
+    }
+    
+    private Map<String, Object> describe(SuggestionPrecomputeRun run) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("students", run.getStudents());
+        summary.put("candidates", run.getCandidates());
+        summary.put("rows", run.getRowCount());
+        summary.put("durationMs", run.getDurationMs());
+        summary.put("completedAt", run.getCompletedAt());
+        summary.put("catalogVersion", run.getCatalogVersion());
+        return summary;
+    }
+    
+    private List<Object[]> toRows(Long studentId, Long revision, SuggestionIndex index,
+                                  SuggestionIndex.SuggestionProfile profile, long today) {
+        int[] positions = index.topPositions(profile, SUGGESTION_COUNT, today);
+        List<Object[]> rows = new ArrayList<>(positions.length);
+        for (int rank = 0; rank < positions.length; rank++) {
+            rows.add(new Object[] {studentId, index.ids[positions[rank]], rank + 1, index.score(positions[rank], profile, today), revision});
+        }
+        return rows;
+    }
+}
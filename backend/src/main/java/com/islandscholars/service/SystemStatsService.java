@@ -0,0 +1,107 @@
+package com.islandscholars.service;
+
+import com.islandscholars.repository.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+public class SystemStatsService {
+    
+    private static final Logger log = LoggerFactory.getLogger(SystemStatsService.class);
+    
+    @Autowired
+    private StudentRepository studentRepository;
+    
+    @Autowired
+    private OrganizationRepository organizationRepository;
+    
+    @Autowired
+    private UniversityRepository universityRepository;
+    
+    @Autowired
+    private InternshipRepository internshipRepository;
+    
+    @Autowired
+    private ApplicationRepository applicationRepository;
+    
+    @Value("${app.stats.system-ttl-ms:30000}")
+    private long ttlMillis;
+    
+    @Value("${app.stats.system-refresh-ahead-ms:10000}")
+    private long refreshAheadMillis;
+    
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "system-stats-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    
+    private volatile Snapshot snapshot;
+    
+    public Map<String, Object> getSystemStats() {
+        Snapshot current = snapshot;
+        long now = System.currentTimeMillis();
+        
+        if (current == null || now - current.loadedAt >= ttlMillis) {
+            return loadSynchronously();
+        }
+        
+        // Serve the cached snapshot but reload it in the background before it expires
+        if (now - current.loadedAt >= ttlMillis - refreshAheadMillis && refreshing.compareAndSet(false, true)) {
+            refresher.execute(() -> {
+                try {
+                    snapshot = load();
+                } catch (RuntimeException e) {
+                    log.warn("Background refresh of system stats failed", e);
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        }
+        
+        return current.stats;
+    }
+    
+    private synchronized Map<String, Object> loadSynchronously() {
+        Snapshot current = snapshot;
+        if (current != null && System.currentTimeMillis() - current.loadedAt < ttlMillis) {
+            return current.stats;
+        }
+        
+        snapshot = load();
+        return snapshot.stats;
+    }
+    
+    private Snapshot load() {
+        Map<String, Object> stats = new HashMap<>();
+        
+        stats.put("totalStudents", studentRepository.count());
+        stats.put("totalOrganizations", organizationRepository.count());
+        stats.put("totalUniversities", universityRepository.count());
+        stats.put("totalInternships", internshipRepository.count());
+        stats.put("totalApplications", applicationRepository.count());
+        stats.put("activeInternships", internshipRepository.countByStatus("active"));
+        stats.put("pendingApplications", applicationRepository.countByStatus("pending"));
+        stats.put("completedInternships", applicationRepository.countByStatus("accepted"));
+        
+        return new Snapshot(Map.copyOf(stats), System.currentTimeMillis());
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+    
+    private record Snapshot(Map<String, Object> stats, long loadedAt) {}
+}
@@ -0,0 +1,152 @@
+package com.islandscholars.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+// TF-IDF vectors for a fixed set of documents, stored as one compressed sparse row matrix:
+// document d owns terms[rowStart[d]..rowStart[d + 1]) with matching L2-normalized weights,
+// term ids ascending. Query vectors are built against the same vocabulary and idf, so cosine
+// similarity is a merge of two sorted int arrays.
+final class TermVectors {
+    
+    private static final Set<String> STOP_WORDS = Set.of(
+        "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "into", "is", "it", "of",
+        "on", "or", "our", "the", "their", "to", "we", "will", "with", "you", "your");
+    
+    private final Map<String, Integer> vocabulary;
+    private final float[] idf;
+    private final int[] rowStart;
+    private final int[] terms;
+    private final float[] weights;
+    
+    private TermVectors(Map<String, Integer> vocabulary, float[] idf, int[] rowStart, int[] terms, float[] weights) {
+        this.vocabulary = vocabulary;
+        this.idf = idf;
+        this.rowStart = rowStart;
+        this.terms = terms;
+        this.weights = weights;
+    }
+    
+    static TermVectors build(List<String> documents) {
+        Map<String, Integer> vocabulary = new HashMap<>();
+        List<Map<Integer, Integer>> frequencies = new ArrayList<>(documents.size());
+        List<Integer> documentFrequency = new ArrayList<>();
+        
+        for (String document : documents) {
+            Map<Integer, Integer> counts = new HashMap<>();
+            for (String token : tokenize(document)) {
+                Integer term = vocabulary.get(token);
+                if (term == null) {
+                    term = vocabulary.size();
+                    vocabulary.put(token, term);
+                    documentFrequency.add(0);
+                }
+                counts.merge(term, 1, Integer::sum);
+            }
+            for (Integer term : counts.keySet()) {
+                documentFrequency.set(term, documentFrequency.get(term) + 1);
+            }
+            frequencies.add(counts);
+        }
+        
+        // Smoothed idf, so a term that appears everywhere still carries a little weight
+        float[] idf = new float[vocabulary.size()];
+        for (int term = 0; term < idf.length; term++) {
+            idf[term] = (float) (Math.log((1.0 + documents.size()) / (1.0 + documentFrequency.get(term))) + 1.0);
+        }
+        
+        int[] rowStart = new int[documents.size() + 1];
+        for (int d = 0; d < documents.size(); d++) {
+            rowStart[d + 1] = rowStart[d] + frequencies.get(d).size();
+        }
+        int[] terms = new int[rowStart[documents.size()]];
+        float[] weights = new float[terms.length];
+        for (int d = 0; d < documents.size(); d++) {
+            SparseVector vector = weigh(frequencies.get(d), idf);
+            System.arraycopy(vector.terms, 0, terms, rowStart[d], vector.terms.length);
+            System.arraycopy(vector.weights, 0, weights, rowStart[d], vector.weights.length);
+        }
+        return new TermVectors(vocabulary, idf, rowStart, terms, weights);
+    }
+    
+    // Terms outside the document vocabulary cannot match anything and are dropped
+    SparseVector vectorize(String text) {
+        Map<Integer, Integer> counts = new HashMap<>();
+        for (String token : tokenize(text)) {
+            Integer term = vocabulary.get(token);
+            if (term != null) {
+                counts.merge(term, 1, Integer::sum);
+            }
+        }
+        return counts.isEmpty() ? SparseVector.EMPTY : weigh(counts, idf);
+    }
+    
+    float cosine(int document, SparseVector query) {
+        float dot = 0;
+        int i = rowStart[document];
+        int end = rowStart[document + 1];
+        int j = 0;
+        while (i < end && j < query.terms.length) {
+            if (terms[i] == query.terms[j]) {
+                dot += weights[i++] * query.weights[j++];
+            } else if (terms[i] < query.terms[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return dot;
+    }
+    
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        // Keeps tokens such as c++ and c# intact
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}+#]+")) {
+            if (token.length() > 1 && !STOP_WORDS.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+    
+    private static SparseVector weigh(Map<Integer, Integer> counts, float[] idf) {
+        int[] terms = new int[counts.size()];
+        int n = 0;
+        for (Integer term : counts.keySet()) {
+            terms[n++] = term;
+        }
+        Arrays.sort(terms);
+        
+        float[] weights = new float[terms.length];
+        double norm = 0;
+        for (int k = 0; k < terms.length; k++) {
+            weights[k] = (float) ((1.0 + Math.log(counts.get(terms[k]))) * idf[terms[k]]);
+            norm += weights[k] * weights[k];
+        }
+        norm = Math.sqrt(norm);
+        for (int k = 0; k < weights.length; k++) {
+            weights[k] /= norm;
+        }
+        return new SparseVector(terms, weights);
+    }
+    
+    static final class SparseVector {
+        static final SparseVector EMPTY = new SparseVector(new int[0], new float[0]);
+        
+        final int[] terms;
+        final float[] weights;
+        
+        SparseVector(int[] terms, float[] weights) {
+            this.terms = terms;
+            this.weights = weights;
+        }
+    }
+}
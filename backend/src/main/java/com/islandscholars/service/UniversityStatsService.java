@@ -0,0 +1,65 @@
+package com.islandscholars.service;
+
+import com.islandscholars.dto.UniversityPlacement;
+import com.islandscholars.repository.StudentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class UniversityStatsService {
+    
+    @Autowired
+    private StudentRepository studentRepository;
+    
+    private final Map<Long, Map<String, Object>> rollup = new ConcurrentHashMap<>();
+    
+    private final Map<String, Object> noStudents = toStats(0, 0, 0);
+    
+    // Only universities with students are cached, like in refreshRollup; any other id, including ones
+    // that do not exist, gets the shared zero stats without adding an entry
+    public Map<String, Object> getUniversityStats(Long universityId) {
+        Map<String, Object> stats = rollup.get(universityId);
+        if (stats != null) {
+            return stats;
+        }
+        return studentRepository.findPlacementByUniversityId(universityId)
+            .map(placement -> {
+                Map<String, Object> computed = toStats(placement);
+                rollup.put(universityId, computed);
+                return computed;
+            })
+            .orElse(noStudents);
+    }
+    
+    // Recompute every university's rollup with one grouped query so dashboards never hit students/applications directly
+    @Scheduled(fixedDelayString = "${app.stats.university-refresh-ms:300000}")
+    public void refreshRollup() {
+        List<UniversityPlacement> placements = studentRepository.findPlacementRollup();
+        
+        Map<Long, Map<String, Object>> refreshed = new HashMap<>();
+        for (UniversityPlacement placement : placements) {
+            refreshed.put(placement.getUniversityId(), toStats(placement));
+        }
+        
+        rollup.putAll(refreshed);
+        rollup.keySet().retainAll(refreshed.keySet());
+    }
+    
+    private Map<String, Object> toStats(UniversityPlacement placement) {
+        return toStats(placement.getTotalStudents(), placement.getPlacedStudents(), placement.getSupervisedStudents());
+    }
+    
+    private Map<String, Object> toStats(long totalStudents, long placedStudents, long supervisedStudents) {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("totalStudents", totalStudents);
+        stats.put("studentsWithAcceptedApplications", placedStudents);
+        stats.put("studentsWithSupervisors", supervisedStudents);
+        stats.put("placementRate", totalStudents > 0 ? (placedStudents * 100.0 / totalStudents) : 0);
+        return Map.copyOf(stats);
+    }
+}
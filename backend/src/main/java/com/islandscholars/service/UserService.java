@@ -1,5 +1,6 @@
 package com.islandscholars.service;
 
+import com.islandscholars.dto.UserView;
 import com.islandscholars.entity.User;
 import com.islandscholars.entity.UserRole;
 import com.islandscholars.repository.UserRepository;
@@ -18,8 +19,8 @@ public class UserService {
     @Autowired
     private PasswordEncoder passwordEncoder;
     
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+    public List<UserView> getAllUsers() {
+        return userRepository.findAllViews();
     }
     
     public Optional<User> getUserById(Long id) {
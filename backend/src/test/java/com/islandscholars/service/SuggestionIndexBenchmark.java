@@ -0,0 +1,102 @@
+package com.islandscholars.service;
+
+import com.islandscholars.dto.SuggestedInternship;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// Cost of one student's suggestions over a catalog of 10k and 100k active internships: the index's
+// bounded top-k against the previous full sort, whose comparator rescored both sides on every comparison.
+// Run with: mvn test-compile, then
+//   java -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" \
+//       com.islandscholars.service.SuggestionIndexBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SuggestionIndexBenchmark {
+    
+    @Param({"10000", "100000"})
+    private int activeInternships;
+    
+    private static final String FIELD_OF_STUDY = "Computer Science";
+    private static final String UNIVERSITY_LOCATION = "Dar es Salaam";
+    private static final Set<String> APPLIED_FIELDS = Set.of("Engineering");
+    private static final Set<Long> APPLIED_IDS = Set.of(1L, 2L, 3L);
+    private static final LocalDate TODAY = LocalDate.of(2026, 1, 15);
+    
+    private List<SuggestedInternship> catalog;
+    private SuggestionIndex index;
+    private SuggestionIndex.SuggestionProfile profile;
+    private long today;
+    
+    @Setup
+    public void setUp() {
+        catalog = SuggestionIndexTest.randomCatalog(new Random(7), activeInternships);
+        index = new SuggestionIndex("bench", catalog);
+        profile = index.profile(FIELD_OF_STUDY, UNIVERSITY_LOCATION, "java python sql", "software data",
+            Set.of("engineering"), APPLIED_IDS);
+        today = TODAY.toEpochDay();
+    }
+    
+    @Benchmark
+    public int[] topSix() {
+        return index.topPositions(profile, 6, today);
+    }
+    
+    // The approach the index replaced, kept here as the baseline
+    @Benchmark
+    public List<SuggestedInternship> fullSortTopSix() {
+        return catalog.stream()
+            .filter(internship -> !APPLIED_IDS.contains(internship.getId()))
+            .sorted((i1, i2) -> Integer.compare(baselineScore(i2), baselineScore(i1)))
+            .limit(6)
+            .collect(Collectors.toList());
+    }
+    
+    private static int baselineScore(SuggestedInternship internship) {
+        int score = 0;
+        if (internship.getField().toLowerCase().contains(FIELD_OF_STUDY.toLowerCase())) {
+            score += 10;
+        }
+        if (APPLIED_FIELDS.contains(internship.getField())) {
+            score += 5;
+        }
+        if (internship.getLocation().toLowerCase().contains(UNIVERSITY_LOCATION.toLowerCase())) {
+            score += 3;
+        }
+        if (internship.getCreatedAt() != null) {
+            long daysOld = ChronoUnit.DAYS.between(internship.getCreatedAt().toLocalDate(), TODAY);
+            if (daysOld < 7) score += 2;
+            else if (daysOld < 30) score += 1;
+        }
+        if (internship.getSpotsAvailable() > 1) {
+            score += 1;
+        }
+        return score;
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SuggestionIndexBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,91 @@
+package com.islandscholars.service;
+
+import com.islandscholars.dto.SuggestedInternship;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SuggestionIndexTest {
+    
+    private static final String[] FIELDS = {"Computer Science", "Engineering", "Business", "Medicine"};
+    private static final String[] LOCATIONS = {"Dar es Salaam", "Dodoma", "Arusha"};
+    private static final long TODAY = LocalDate.of(2026, 1, 15).toEpochDay();
+    
+    @Test
+    void topMatchesStableSortOfAllScores() {
+        Random random = new Random(42);
+        for (int round = 0; round < 50; round++) {
+            SuggestionIndex index = new SuggestionIndex("v", randomCatalog(random, 1 + random.nextInt(300)));
+            Set<Long> applied = new HashSet<>();
+            for (int i = 0; i < index.size() / 10; i++) {
+                applied.add(index.ids[random.nextInt(index.size())]);
+            }
+            SuggestionIndex.SuggestionProfile profile = index.profile(
+                FIELDS[random.nextInt(FIELDS.length)], LOCATIONS[random.nextInt(LOCATIONS.length)],
+                "java python", "software", Set.of("engineering"), applied);
+            
+            for (int k : new int[] {1, 6, 25, index.size() + 5}) {
+                assertArrayEquals(bruteForce(index, profile, k), index.topPositions(profile, k, TODAY),
+                    "round " + round + ", k " + k);
+            }
+        }
+    }
+    
+    @Test
+    void equalScoresPreferEarlierPositions() {
+        List<SuggestedInternship> catalog = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            catalog.add(internship(id, "Business", "Arusha", 1, null));
+        }
+        SuggestionIndex index = new SuggestionIndex("v", catalog);
+        SuggestionIndex.SuggestionProfile profile = index.profile(null, null, null, null, Set.of(), Set.of(3L));
+        
+        assertArrayEquals(new int[] {0, 1, 3, 4, 5}, index.topPositions(profile, 5, TODAY));
+    }
+    
+    @Test
+    void topReturnsNothingWhenNothingIsRequested() {
+        SuggestionIndex index = new SuggestionIndex("v", List.of(internship(1, "Business", "Arusha", 2, null)));
+        SuggestionIndex.SuggestionProfile profile = index.profile(null, null, null, null, Set.of(), Set.of());
+        
+        assertEquals(0, index.topPositions(profile, 0, TODAY).length);
+    }
+    
+    private static int[] bruteForce(SuggestionIndex index, SuggestionIndex.SuggestionProfile profile, int k) {
+        // Stream.sorted is stable, so equal scores keep ascending position order
+        List<Integer> ranked = IntStream.range(0, index.size())
+            .filter(i -> !profile.appliedInternshipIds.contains(index.ids[i]))
+            .boxed()
+            .sorted(Comparator.comparingInt((Integer i) -> index.score(i, profile, TODAY)).reversed())
+            .collect(Collectors.toList());
+        return ranked.subList(0, Math.min(k, ranked.size())).stream().mapToInt(Integer::intValue).toArray();
+    }
+    
+    static List<SuggestedInternship> randomCatalog(Random random, int size) {
+        List<SuggestedInternship> catalog = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            LocalDateTime createdAt = random.nextInt(10) == 0 ? null
+                : LocalDate.ofEpochDay(TODAY - random.nextInt(60)).atStartOfDay();
+            catalog.add(internship(i + 1, FIELDS[random.nextInt(FIELDS.length)], LOCATIONS[random.nextInt(LOCATIONS.length)],
+                random.nextInt(4), createdAt));
+        }
+        return catalog;
+    }
+    
+    static SuggestedInternship internship(long id, String field, String location, int spots, LocalDateTime createdAt) {
+        String requirements = id % 3 == 0 ? "Java and Python software development" : "Communication skills";
+        return new SuggestedInternship(id, field + " intern " + id, "Description", location, "3 months", field,
+            "full-time", spots, null, "active", requirements, null, createdAt, 1L, "Organization");
+    }
+}
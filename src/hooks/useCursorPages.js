@@ -0,0 +1,59 @@
+import { useState, useEffect, useCallback } from 'react';
+
+const fetchPage = async (url, cursor) => {
+  const separator = url.includes('?') ? '&' : '?';
+  const response = await fetch(cursor ? `${url}${separator}cursor=${encodeURIComponent(cursor)}` : url);
+  if (!response.ok) {
+    return null;
+  }
+  const data = await response.json();
+  return { data, cursor: response.headers.get('X-Next-Cursor') };
+};
+
+// Loads a cursor-paged list endpoint one page at a time. The server returns the newest rows first
+// and sends the cursor for the next page in the X-Next-Cursor header.
+export const useCursorPages = (url) => {
+  const [items, setItems] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loading, setLoading] = useState(true);
+  const [loadingMore, setLoadingMore] = useState(false);
+
+  const reload = useCallback(async () => {
+    if (!url) return;
+
+    try {
+      const page = await fetchPage(url, null);
+      if (page) {
+        setItems(page.data);
+        setNextCursor(page.cursor);
+      }
+    } catch (error) {
+      console.error('Error fetching page:', error);
+    } finally {
+      setLoading(false);
+    }
+  }, [url]);
+
+  const loadMore = async () => {
+    if (!nextCursor || loadingMore) return;
+
+    setLoadingMore(true);
+    try {
+      const page = await fetchPage(url, nextCursor);
+      if (page) {
+        setItems(prev => [...prev, ...page.data]);
+        setNextCursor(page.cursor);
+      }
+    } catch (error) {
+      console.error('Error fetching next page:', error);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
+  useEffect(() => {
+    reload();
+  }, [reload]);
+
+  return { items, loading, loadingMore, hasMore: nextCursor !== null, loadMore, reload };
+};
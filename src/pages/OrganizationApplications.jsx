@@ -1,4 +1,4 @@
-import React, { useState, useEffect } from 'react';
+import React, { useState } from 'react';
 import { 
   FileText, 
   Users, 
@@ -13,33 +13,22 @@ import {
 } from 'lucide-react';
 import { useAuth } from '../context/AuthContext';
 import DashboardLayout from '../components/DashboardLayout';
+import { useCursorPages } from '../hooks/useCursorPages';
 
 const OrganizationApplications = () => {
   const { user } = useAuth();
-  const [applications, setApplications] = useState([]);
-  const [loading, setLoading] = useState(true);
+  const {
+    items: applications,
+    loading,
+    loadingMore,
+    hasMore,
+    loadMore,
+    reload: fetchApplications
+  } = useCursorPages(user ? `http://localhost:8080/api/applications/organization/${user.organizationId}/all` : null);
   const [searchTerm, setSearchTerm] = useState('');
   const [statusFilter, setStatusFilter] = useState('all');
   const [selectedApplication, setSelectedApplication] = useState(null);
 
-  useEffect(() => {
-    fetchApplications();
-  }, []);
-
-  const fetchApplications = async () => {
-    try {
-      const response = await fetch(`http://localhost:8080/api/applications/organization/${user.organizationId}/all`);
-      if (response.ok) {
-        const data = await response.json();
-        setApplications(data);
-      }
-    } catch (error) {
-      console.error('Error fetching applications:', error);
-    } finally {
-      setLoading(false);
-    }
-  };
-
   const handleApplicationAction = async (applicationId, action) => {
     try {
       const response = await fetch(`http://localhost:8080/api/applications/${applicationId}/${action}`, {
@@ -267,6 +256,17 @@ const OrganizationApplications = () => {
               </p>
             </div>
           )}
+          {hasMore && (
+            <div className="mt-6 text-center">
+              <button
+                onClick={loadMore}
+                disabled={loadingMore}
+                className="px-4 py-2 border border-neutral-300 text-neutral-700 rounded-md text-sm hover:bg-neutral-50 transition-colors disabled:opacity-50"
+              >
+                {loadingMore ? 'Loading...' : 'Load more applications'}
+              </button>
+            </div>
+          )}
         </div>
       </div>
 
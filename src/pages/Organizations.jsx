@@ -117,7 +117,7 @@ const Organizations = () => {
                   </div>
                   <div className="flex items-center text-sm text-gray-500">
                     <Users className="w-4 h-4 mr-2 flex-shrink-0" />
-                    {org.internships?.length || 0} active internships
+                    {org.activeInternshipCount || 0} active internships
                   </div>
                   {org.website && (
                     <div className="flex items-center text-sm text-gray-500">
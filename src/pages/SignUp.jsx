@@ -65,13 +65,18 @@ const SignUp = () => {
     }
   }, [user, navigate]);
 
+  // Suggest universities as the student types instead of downloading the whole list
   useEffect(() => {
-    fetchUniversities();
-  }, []);
+    if (formData.role !== 'student') return;
+    const timer = setTimeout(() => fetchUniversities(formData.university), 200);
+    return () => clearTimeout(timer);
+  }, [formData.role, formData.university]);
 
-  const fetchUniversities = async () => {
+  const fetchUniversities = async (query) => {
     try {
-      const response = await fetch('http://localhost:8080/api/universities');
+      const response = await fetch(
+        `http://localhost:8080/api/autocomplete/universities?q=${encodeURIComponent(query)}&limit=10`
+      );
       if (response.ok) {
         const data = await response.json();
         setUniversities(data);
@@ -514,18 +519,22 @@ const SignUp = () => {
                           <div className="absolute inset-y-0 left-0 pl-3 flex items-center pointer-events-none">
                             <GraduationCap className="h-5 w-5 text-neutral-400" />
                           </div>
-                          <select
+                          <input
                             name="university"
+                            type="text"
+                            list="university-options"
+                            autoComplete="off"
                             value={formData.university}
                             onChange={handleChange}
                             className="block w-full pl-10 pr-3 py-2 border border-neutral-200 rounded-md focus:outline-none focus:ring-primary-red focus:border-primary-red"
+                            placeholder="Start typing your university"
                             required
-                          >
-                            <option value="">Select your university</option>
+                          />
+                          <datalist id="university-options">
                             {universities.map(uni => (
-                              <option key={uni.id} value={uni.name}>{uni.name}</option>
+                              <option key={uni.id} value={uni.name} />
                             ))}
-                          </select>
+                          </datalist>
                         </div>
                       </div>
 
@@ -23,10 +23,20 @@ import {
 } from 'lucide-react';
 import { useAuth } from '../context/AuthContext';
 import DashboardLayout from '../components/DashboardLayout';
+import { useCursorPages } from '../hooks/useCursorPages';
 
 const StudentDashboard = () => {
   const { user } = useAuth();
-  const [applications, setApplications] = useState([]);
+  const {
+    items: applicationPages,
+    loadingMore,
+    hasMore,
+    loadMore,
+    reload: reloadApplications
+  } = useCursorPages(user ? `http://localhost:8080/api/applications/student/${user.id}` : null);
+  const applications = applicationPages.filter(app =>
+    app.status.toLowerCase() === 'accepted' || app.status.toLowerCase() === 'rejected'
+  );
   const [suggestedInternships, setSuggestedInternships] = useState([]);
   const [organizations, setOrganizations] = useState([]);
   const [profile, setProfile] = useState(null);
@@ -54,21 +64,12 @@ const StudentDashboard = () => {
 
   const fetchStudentData = async () => {
     try {
-      const [applicationsRes, organizationsRes, profileRes, suggestionsRes] = await Promise.all([
-        fetch(`http://localhost:8080/api/applications/student/${user.id}`),
+      const [organizationsRes, profileRes, suggestionsRes] = await Promise.all([
         fetch('http://localhost:8080/api/organizations'),
         fetch(`http://localhost:8080/api/students/${user.id}`),
         fetch(`http://localhost:8080/api/suggestions/internships/student/${user.id}`)
       ]);
 
-      if (applicationsRes.ok) {
-        const applicationsData = await applicationsRes.json();
-        const filteredApplications = applicationsData.filter(app => 
-          app.status.toLowerCase() === 'accepted' || app.status.toLowerCase() === 'rejected'
-        );
-        setApplications(filteredApplications);
-      }
-
       if (organizationsRes.ok) {
         const organizationsData = await organizationsRes.json();
         setOrganizations(organizationsData);
@@ -122,6 +123,7 @@ const StudentDashboard = () => {
           setSelectedOrganization('');
           setMessage('');
           fetchStudentData();
+          reloadApplications();
         }, 2000);
       } else {
         const errorData = await response.json();
@@ -395,6 +397,17 @@ const StudentDashboard = () => {
                   <p className="text-neutral-600 mb-6">Your accepted or rejected applications will appear here.</p>
                 </div>
               )}
+              {hasMore && (
+                <div className="mt-6 text-center">
+                  <button
+                    onClick={loadMore}
+                    disabled={loadingMore}
+                    className="px-4 py-2 border border-neutral-300 text-neutral-700 rounded-md text-sm hover:bg-neutral-50 transition-colors disabled:opacity-50"
+                  >
+                    {loadingMore ? 'Loading...' : 'Load older applications'}
+                  </button>
+                </div>
+              )}
             </div>
           </div>
         </div>